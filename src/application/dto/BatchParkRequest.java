@@ -0,0 +1,38 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class BatchParkRequest {
+    public enum Mode {
+        ALL_OR_NOTHING,
+        BEST_EFFORT
+    }
+
+    private final List<String> licensePlates;
+    private final Mode mode;
+
+    public BatchParkRequest(List<String> licensePlates) {
+        this(licensePlates, Mode.ALL_OR_NOTHING);
+    }
+
+    public BatchParkRequest(List<String> licensePlates, Mode mode) {
+        this.licensePlates = new ArrayList<>();
+        this.mode = mode == null ? Mode.ALL_OR_NOTHING : mode;
+
+        if (licensePlates != null) {
+            for (String licensePlate : licensePlates) {
+                this.licensePlates.add(licensePlate == null ? "" : licensePlate.trim());
+            }
+        }
+    }
+
+    public List<String> getLicensePlates() {
+        return Collections.unmodifiableList(licensePlates);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,42 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class BatchParkResponse {
+    private final List<BatchParkResult> results;
+    private final int parkedCount;
+    private final ParkingLotDelta delta;
+
+    public BatchParkResponse(List<BatchParkResult> results, ParkingLotDelta delta) {
+        this.results = results == null ? new ArrayList<>() : new ArrayList<>(results);
+        this.delta = delta;
+
+        int parked = 0;
+
+        for (BatchParkResult result : this.results) {
+            if (result.isParked()) {
+                parked++;
+            }
+        }
+
+        this.parkedCount = parked;
+    }
+
+    public List<BatchParkResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public int getParkedCount() {
+        return parkedCount;
+    }
+
+    public int getRejectedCount() {
+        return results.size() - parkedCount;
+    }
+
+    public ParkingLotDelta getDelta() {
+        return delta;
+    }
+}
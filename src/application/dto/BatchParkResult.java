@@ -0,0 +1,57 @@
+package application.dto;
+
+public final class BatchParkResult {
+    private final String licensePlate;
+    private final boolean parked;
+    private final int slotNumber;
+    private final String errorCode;
+    private final String message;
+
+    private BatchParkResult(String licensePlate, boolean parked, int slotNumber, String errorCode, String message) {
+        this.licensePlate = normalize(licensePlate);
+        this.parked = parked;
+        this.slotNumber = slotNumber;
+        this.errorCode = normalize(errorCode);
+        this.message = normalize(message);
+    }
+
+    public static BatchParkResult parked(String licensePlate, int slotNumber) {
+        if (slotNumber <= 0) {
+            throw new IllegalArgumentException("Slot number must be greater than zero");
+        }
+
+        return new BatchParkResult(licensePlate, true, slotNumber, "", "Parked in slot " + slotNumber);
+    }
+
+    public static BatchParkResult rejected(String licensePlate, String errorCode, String message) {
+        return new BatchParkResult(licensePlate, false, 0, errorCode, message);
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public boolean isParked() {
+        return parked;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
@@ -1,6 +1,7 @@
 package application.dto;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -11,6 +12,20 @@ public final class BatchUnparkRequest {
         this.slotNumbers = slotNumbers == null ? new ArrayList<>() : new ArrayList<>(slotNumbers);
     }
 
+    public static BatchUnparkRequest fromSlots(BitSet slotNumbers) {
+        if (slotNumbers == null) {
+            return new BatchUnparkRequest(null);
+        }
+
+        List<Integer> selectedSlots = new ArrayList<>(slotNumbers.cardinality());
+
+        for (int slotNumber = slotNumbers.nextSetBit(0); slotNumber >= 0; slotNumber = slotNumbers.nextSetBit(slotNumber + 1)) {
+            selectedSlots.add(slotNumber);
+        }
+
+        return new BatchUnparkRequest(selectedSlots);
+    }
+
     public List<Integer> getSlotNumbers() {
         return Collections.unmodifiableList(slotNumbers);
     }
@@ -7,9 +7,9 @@ import java.util.List;
 public final class BatchUnparkResponse {
     private final int unparkedCount;
     private final List<String> unparkedLicensePlates;
-    private final ParkingLotViewData parkingLot;
+    private final ParkingLotDelta delta;
 
-    public BatchUnparkResponse(int unparkedCount, List<String> unparkedLicensePlates, ParkingLotViewData parkingLot) {
+    public BatchUnparkResponse(int unparkedCount, List<String> unparkedLicensePlates, ParkingLotDelta delta) {
         if (unparkedCount < 0) {
             throw new IllegalArgumentException("Unparked count cannot be negative");
         }
@@ -18,7 +18,7 @@ public final class BatchUnparkResponse {
         this.unparkedLicensePlates = unparkedLicensePlates == null
                 ? new ArrayList<>()
                 : new ArrayList<>(unparkedLicensePlates);
-        this.parkingLot = parkingLot;
+        this.delta = delta;
     }
 
     public int getUnparkedCount() {
@@ -29,7 +29,7 @@ public final class BatchUnparkResponse {
         return Collections.unmodifiableList(unparkedLicensePlates);
     }
 
-    public ParkingLotViewData getParkingLot() {
-        return parkingLot;
+    public ParkingLotDelta getDelta() {
+        return delta;
     }
 }
\ No newline at end of file
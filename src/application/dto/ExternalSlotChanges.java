@@ -0,0 +1,49 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class ExternalSlotChanges {
+    private final int size;
+    private final int occupiedSlots;
+    private final List<SlotViewData> changedSlots;
+    private final Set<Integer> replacedSlots;
+
+    public ExternalSlotChanges(int size, int occupiedSlots, List<SlotViewData> changedSlots) {
+        this(size, occupiedSlots, changedSlots, null);
+    }
+
+    public ExternalSlotChanges(int size, int occupiedSlots, List<SlotViewData> changedSlots, Set<Integer> replacedSlots) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (occupiedSlots < 0 || occupiedSlots > size) {
+            throw new IllegalArgumentException("Occupied slot count must be between zero and the parking lot size");
+        }
+
+        this.size = size;
+        this.occupiedSlots = occupiedSlots;
+        this.changedSlots = changedSlots == null ? new ArrayList<>() : new ArrayList<>(changedSlots);
+        this.replacedSlots = replacedSlots == null ? new HashSet<>() : new HashSet<>(replacedSlots);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public List<SlotViewData> getChangedSlots() {
+        return Collections.unmodifiableList(changedSlots);
+    }
+
+    public Set<Integer> getReplacedSlots() {
+        return Collections.unmodifiableSet(replacedSlots);
+    }
+}
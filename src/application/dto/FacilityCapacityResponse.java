@@ -0,0 +1,56 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FacilityCapacityResponse {
+    private final List<LotCapacity> lots;
+    private final List<String> unavailableLots;
+    private final int totalSlots;
+    private final int occupiedSlots;
+    private final int availableSlots;
+
+    public FacilityCapacityResponse(List<LotCapacity> lots, List<String> unavailableLots) {
+        this.lots = lots == null ? new ArrayList<>() : new ArrayList<>(lots);
+        this.unavailableLots = unavailableLots == null ? new ArrayList<>() : new ArrayList<>(unavailableLots);
+
+        int total = 0;
+        int occupied = 0;
+        int available = 0;
+
+        for (LotCapacity lot : this.lots) {
+            total += lot.getSize();
+            occupied += lot.getOccupiedSlots();
+            available += lot.getAvailableSlots();
+        }
+
+        this.totalSlots = total;
+        this.occupiedSlots = occupied;
+        this.availableSlots = available;
+    }
+
+    public List<LotCapacity> getLots() {
+        return Collections.unmodifiableList(lots);
+    }
+
+    public List<String> getUnavailableLots() {
+        return Collections.unmodifiableList(unavailableLots);
+    }
+
+    public int getTotalSlots() {
+        return totalSlots;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getAvailableSlots() {
+        return availableSlots;
+    }
+
+    public boolean isComplete() {
+        return unavailableLots.isEmpty();
+    }
+}
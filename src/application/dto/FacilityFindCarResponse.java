@@ -0,0 +1,59 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FacilityFindCarResponse {
+    private final boolean found;
+    private final String lotName;
+    private final int slotNumber;
+    private final String licensePlate;
+    private final List<String> unavailableLots;
+
+    public FacilityFindCarResponse(
+            boolean found,
+            String lotName,
+            int slotNumber,
+            String licensePlate,
+            List<String> unavailableLots
+    ) {
+        if (found && (lotName == null || lotName.trim().isEmpty() || slotNumber <= 0)) {
+            throw new IllegalArgumentException("Found car response must include a lot name and a valid slot number");
+        }
+
+        this.found = found;
+        this.lotName = normalize(lotName);
+        this.slotNumber = slotNumber;
+        this.licensePlate = normalize(licensePlate);
+        this.unavailableLots = unavailableLots == null ? new ArrayList<>() : new ArrayList<>(unavailableLots);
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public String getLotName() {
+        return lotName;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public List<String> getUnavailableLots() {
+        return Collections.unmodifiableList(unavailableLots);
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,27 @@
+package application.dto;
+
+public final class FacilityReportResponse {
+    private final String filePath;
+    private final int lotCount;
+
+    public FacilityReportResponse(String filePath, int lotCount) {
+        this.filePath = normalize(filePath);
+        this.lotCount = lotCount;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public int getLotCount() {
+        return lotCount;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
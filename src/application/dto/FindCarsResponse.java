@@ -0,0 +1,48 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FindCarsResponse {
+    private final List<PlateLookupResult> results;
+    private final int foundCount;
+    private final int notFoundCount;
+    private final int invalidCount;
+
+    public FindCarsResponse(List<PlateLookupResult> results) {
+        this.results = results == null ? new ArrayList<>() : new ArrayList<>(results);
+
+        int found = 0;
+        int notFound = 0;
+        int invalid = 0;
+
+        for (PlateLookupResult result : this.results) {
+            switch (result.getStatus()) {
+                case FOUND -> found++;
+                case NOT_FOUND -> notFound++;
+                default -> invalid++;
+            }
+        }
+
+        this.foundCount = found;
+        this.notFoundCount = notFound;
+        this.invalidCount = invalid;
+    }
+
+    public List<PlateLookupResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public int getFoundCount() {
+        return foundCount;
+    }
+
+    public int getNotFoundCount() {
+        return notFoundCount;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+}
@@ -0,0 +1,43 @@
+package application.dto;
+
+public final class LotCapacity {
+    private final String lotName;
+    private final int size;
+    private final int occupiedSlots;
+    private final int availableSlots;
+
+    public LotCapacity(String lotName, int size, int occupiedSlots, int availableSlots) {
+        if (lotName == null || lotName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Parking lot name cannot be empty");
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (occupiedSlots < 0 || availableSlots < 0) {
+            throw new IllegalArgumentException("Slot counts cannot be negative");
+        }
+
+        this.lotName = lotName.trim();
+        this.size = size;
+        this.occupiedSlots = occupiedSlots;
+        this.availableSlots = availableSlots;
+    }
+
+    public String getLotName() {
+        return lotName;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getAvailableSlots() {
+        return availableSlots;
+    }
+}
@@ -2,15 +2,25 @@ package application.dto;
 
 public final class ParkCarRequest {
     private final String licensePlate;
+    private final String requestId;
 
     public ParkCarRequest(String licensePlate) {
+        this(licensePlate, null);
+    }
+
+    public ParkCarRequest(String licensePlate, String requestId) {
         this.licensePlate = normalize(licensePlate);
+        this.requestId = normalize(requestId);
     }
 
     public String getLicensePlate() {
         return licensePlate;
     }
 
+    public String getRequestId() {
+        return requestId;
+    }
+
     private String normalize(String value) {
         if (value == null) {
             return "";
@@ -18,4 +28,4 @@ public final class ParkCarRequest {
 
         return value.trim();
     }
-}
\ No newline at end of file
+}
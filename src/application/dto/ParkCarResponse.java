@@ -3,16 +3,16 @@ package application.dto;
 public final class ParkCarResponse {
     private final int slotNumber;
     private final String licensePlate;
-    private final ParkingLotViewData parkingLot;
+    private final ParkingLotDelta delta;
 
-    public ParkCarResponse(int slotNumber, String licensePlate, ParkingLotViewData parkingLot) {
+    public ParkCarResponse(int slotNumber, String licensePlate, ParkingLotDelta delta) {
         if (slotNumber <= 0) {
             throw new IllegalArgumentException("Slot number must be greater than zero");
         }
 
         this.slotNumber = slotNumber;
         this.licensePlate = normalize(licensePlate);
-        this.parkingLot = parkingLot;
+        this.delta = delta;
     }
 
     public int getSlotNumber() {
@@ -23,8 +23,8 @@ public final class ParkCarResponse {
         return licensePlate;
     }
 
-    public ParkingLotViewData getParkingLot() {
-        return parkingLot;
+    public ParkingLotDelta getDelta() {
+        return delta;
     }
 
     private String normalize(String value) {
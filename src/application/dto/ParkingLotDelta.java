@@ -0,0 +1,90 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class ParkingLotDelta {
+    private final long baseVersion;
+    private final long version;
+    private final int size;
+    private final int occupiedSlots;
+    private final int availableSlots;
+    private final List<SlotViewData> changedSlots;
+    private final Set<Integer> replacedSlots;
+
+    public ParkingLotDelta(
+            long baseVersion,
+            long version,
+            int size,
+            int occupiedSlots,
+            int availableSlots,
+            List<SlotViewData> changedSlots
+    ) {
+        this(baseVersion, version, size, occupiedSlots, availableSlots, changedSlots, null);
+    }
+
+    public ParkingLotDelta(
+            long baseVersion,
+            long version,
+            int size,
+            int occupiedSlots,
+            int availableSlots,
+            List<SlotViewData> changedSlots,
+            Set<Integer> replacedSlots
+    ) {
+        if (version <= baseVersion) {
+            throw new IllegalArgumentException("Delta version must be greater than its base version");
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (occupiedSlots < 0) {
+            throw new IllegalArgumentException("Occupied slot count cannot be negative");
+        }
+
+        if (availableSlots < 0) {
+            throw new IllegalArgumentException("Available slot count cannot be negative");
+        }
+
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.size = size;
+        this.occupiedSlots = occupiedSlots;
+        this.availableSlots = availableSlots;
+        this.changedSlots = changedSlots == null ? new ArrayList<>() : new ArrayList<>(changedSlots);
+        this.replacedSlots = replacedSlots == null ? new HashSet<>() : new HashSet<>(replacedSlots);
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getAvailableSlots() {
+        return availableSlots;
+    }
+
+    public List<SlotViewData> getChangedSlots() {
+        return Collections.unmodifiableList(changedSlots);
+    }
+
+    public boolean isReplaced(int slotNumber) {
+        return replacedSlots.contains(slotNumber);
+    }
+}
@@ -9,8 +9,13 @@ public final class ParkingLotViewData {
     private final int occupiedSlots;
     private final int availableSlots;
     private final List<SlotViewData> slots;
+    private final long version;
 
     public ParkingLotViewData(int size, int occupiedSlots, int availableSlots, List<SlotViewData> slots) {
+        this(size, occupiedSlots, availableSlots, slots, 0L);
+    }
+
+    public ParkingLotViewData(int size, int occupiedSlots, int availableSlots, List<SlotViewData> slots, long version) {
         if (size <= 0) {
             throw new IllegalArgumentException("Parking lot size must be greater than zero");
         }
@@ -27,6 +32,7 @@ public final class ParkingLotViewData {
         this.occupiedSlots = occupiedSlots;
         this.availableSlots = availableSlots;
         this.slots = slots == null ? new ArrayList<>() : new ArrayList<>(slots);
+        this.version = version;
     }
 
     public int getSize() {
@@ -44,4 +50,8 @@ public final class ParkingLotViewData {
     public List<SlotViewData> getSlots() {
         return Collections.unmodifiableList(slots);
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
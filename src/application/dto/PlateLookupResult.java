@@ -0,0 +1,89 @@
+package application.dto;
+
+public final class PlateLookupResult {
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private final String requestedLicensePlate;
+    private final String licensePlate;
+    private final Status status;
+    private final int slotNumber;
+    private final String message;
+
+    private PlateLookupResult(
+            String requestedLicensePlate,
+            String licensePlate,
+            Status status,
+            int slotNumber,
+            String message
+    ) {
+        this.requestedLicensePlate = normalize(requestedLicensePlate);
+        this.licensePlate = normalize(licensePlate);
+        this.status = status == null ? Status.INVALID : status;
+        this.slotNumber = slotNumber;
+        this.message = normalize(message);
+    }
+
+    public static PlateLookupResult found(String requestedLicensePlate, String licensePlate, int slotNumber) {
+        if (slotNumber <= 0) {
+            throw new IllegalArgumentException("Found plate lookup must include a valid slot number");
+        }
+
+        return new PlateLookupResult(
+                requestedLicensePlate,
+                licensePlate,
+                Status.FOUND,
+                slotNumber,
+                "Car " + licensePlate + " found in slot " + slotNumber
+        );
+    }
+
+    public static PlateLookupResult notFound(String requestedLicensePlate, String licensePlate) {
+        return new PlateLookupResult(
+                requestedLicensePlate,
+                licensePlate,
+                Status.NOT_FOUND,
+                0,
+                "Car " + licensePlate + " was not found"
+        );
+    }
+
+    public static PlateLookupResult invalid(String requestedLicensePlate, String message) {
+        return new PlateLookupResult(requestedLicensePlate, "", Status.INVALID, 0, message);
+    }
+
+    public String getRequestedLicensePlate() {
+        return requestedLicensePlate;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,43 @@
+package application.dto;
+
+public final class PlateSearchResult {
+    public enum MatchType {
+        EXACT,
+        PREFIX,
+        FUZZY
+    }
+
+    private final String licensePlate;
+    private final int slotNumber;
+    private final MatchType matchType;
+
+    public PlateSearchResult(String licensePlate, int slotNumber, MatchType matchType) {
+        if (slotNumber <= 0) {
+            throw new IllegalArgumentException("Search result must include a valid slot number");
+        }
+
+        this.licensePlate = normalize(licensePlate);
+        this.slotNumber = slotNumber;
+        this.matchType = matchType == null ? MatchType.FUZZY : matchType;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
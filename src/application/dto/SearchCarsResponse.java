@@ -0,0 +1,27 @@
+package application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class SearchCarsResponse {
+    private final String query;
+    private final List<PlateSearchResult> results;
+
+    public SearchCarsResponse(String query, List<PlateSearchResult> results) {
+        this.query = query == null ? "" : query.trim();
+        this.results = results == null ? new ArrayList<>() : new ArrayList<>(results);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<PlateSearchResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public boolean hasResults() {
+        return !results.isEmpty();
+    }
+}
@@ -2,12 +2,30 @@ package application.dto;
 
 public final class UnparkCarRequest {
     private final int slotNumber;
+    private final String requestId;
 
     public UnparkCarRequest(int slotNumber) {
+        this(slotNumber, null);
+    }
+
+    public UnparkCarRequest(int slotNumber, String requestId) {
         this.slotNumber = slotNumber;
+        this.requestId = normalize(requestId);
     }
 
     public int getSlotNumber() {
         return slotNumber;
     }
-}
\ No newline at end of file
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,67 @@
+package application.events;
+
+public final class ParkingEvent {
+    public enum Type {
+        PARKED,
+        UNPARKED
+    }
+
+    private final Type type;
+    private final int slotNumber;
+    private final int occupiedSlots;
+    private final int size;
+    private final long version;
+    private final long occurredAtMillis;
+
+    public ParkingEvent(
+            Type type,
+            int slotNumber,
+            int occupiedSlots,
+            int size,
+            long version,
+            long occurredAtMillis
+    ) {
+        if (type == null) {
+            throw new IllegalArgumentException("Parking event type cannot be null");
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (occupiedSlots < 0 || occupiedSlots > size) {
+            throw new IllegalArgumentException("Occupied slot count must be between zero and the parking lot size");
+        }
+
+        this.type = type;
+        this.slotNumber = slotNumber;
+        this.occupiedSlots = occupiedSlots;
+        this.size = size;
+        this.version = version;
+        this.occurredAtMillis = occurredAtMillis;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getOccurredAtMillis() {
+        return occurredAtMillis;
+    }
+}
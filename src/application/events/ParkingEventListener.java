@@ -0,0 +1,6 @@
+package application.events;
+
+@FunctionalInterface
+public interface ParkingEventListener {
+    void onParkingEvent(ParkingEvent event);
+}
@@ -0,0 +1,59 @@
+package application.metrics;
+
+import java.util.Arrays;
+
+public final class HistogramSnapshot {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] bucketCounts;
+
+    HistogramSnapshot(long count, long totalNanos, long maxNanos, long[] bucketCounts) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.bucketCounts = Arrays.copyOf(bucketCounts, bucketCounts.length);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / NANOS_PER_MILLI;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0.0 : totalNanos / NANOS_PER_MILLI / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / NANOS_PER_MILLI;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        if (percentile <= 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be greater than 0 and at most 100");
+        }
+
+        if (count == 0) {
+            return 0.0;
+        }
+
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0L;
+
+        for (int index = 0; index < bucketCounts.length; index++) {
+            seen += bucketCounts[index];
+
+            if (seen >= rank) {
+                long upperBound = Math.min(LatencyHistogram.bucketUpperBoundNanos(index), maxNanos);
+                return upperBound / NANOS_PER_MILLI;
+            }
+        }
+
+        return getMaxMillis();
+    }
+}
@@ -0,0 +1,53 @@
+package application.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatencyHistogram {
+    static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+
+    LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+    }
+
+    static int bucketIndex(long nanos) {
+        long micros = Math.max(0L, nanos) / 1_000L;
+        int index = 64 - Long.numberOfLeadingZeros(micros);
+
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    static long bucketUpperBoundNanos(int index) {
+        return (1L << index) * 1_000L;
+    }
+
+    void record(long nanos) {
+        long safeNanos = Math.max(0L, nanos);
+
+        buckets.incrementAndGet(bucketIndex(safeNanos));
+        count.increment();
+        totalNanos.add(safeNanos);
+        maxNanos.accumulateAndGet(safeNanos, Math::max);
+    }
+
+    HistogramSnapshot snapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long bucketTotal = 0L;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            bucketCounts[index] = buckets.get(index);
+            bucketTotal += bucketCounts[index];
+        }
+
+        return new HistogramSnapshot(bucketTotal, totalNanos.sum(), maxNanos.get(), bucketCounts);
+    }
+}
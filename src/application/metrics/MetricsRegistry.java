@@ -0,0 +1,86 @@
+package application.metrics;
+
+import application.dto.OperationResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class MetricsRegistry {
+    private static final MetricsRegistry DISABLED = new MetricsRegistry(false);
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, LongAdder> counters;
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms;
+
+    public MetricsRegistry() {
+        this(true);
+    }
+
+    private MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+        this.counters = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    public static MetricsRegistry disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordSince(String name, long startNanos) {
+        if (enabled) {
+            recordNanos(name, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void recordNanos(String name, long nanos) {
+        if (enabled) {
+            histograms.computeIfAbsent(name, ignored -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    public void increment(String name) {
+        if (enabled) {
+            counters.computeIfAbsent(name, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    public <T> OperationResult<T> time(String name, Supplier<OperationResult<T>> operation) {
+        if (!enabled) {
+            return operation.get();
+        }
+
+        long startNanos = System.nanoTime();
+
+        try {
+            OperationResult<T> result = operation.get();
+            increment(name + (result != null && result.isSuccess() ? ".success" : ".failure"));
+            return result;
+        } catch (RuntimeException exception) {
+            increment(name + ".error");
+            throw exception;
+        } finally {
+            recordSince(name, startNanos);
+        }
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new HashMap<>();
+        Map<String, HistogramSnapshot> histogramValues = new HashMap<>();
+
+        counters.forEach((name, counter) -> counterValues.put(name, counter.sum()));
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, histogramValues);
+    }
+}
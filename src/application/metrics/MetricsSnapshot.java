@@ -0,0 +1,37 @@
+package application.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class MetricsSnapshot {
+    private final long capturedAtMillis;
+    private final Map<String, Long> counters;
+    private final Map<String, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(long capturedAtMillis, Map<String, Long> counters, Map<String, HistogramSnapshot> histograms) {
+        this.capturedAtMillis = capturedAtMillis;
+        this.counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+        this.histograms = Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    public HistogramSnapshot getHistogram(String name) {
+        return histograms.get(name);
+    }
+}
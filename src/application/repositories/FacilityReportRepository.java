@@ -0,0 +1,9 @@
+package application.repositories;
+
+import domain.entities.ParkingLot;
+
+import java.util.Map;
+
+public interface FacilityReportRepository {
+    String generate(Map<String, ParkingLot> parkingLotsByName);
+}
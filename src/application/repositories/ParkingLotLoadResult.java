@@ -0,0 +1,53 @@
+package application.repositories;
+
+import domain.entities.ParkingLot;
+
+public final class ParkingLotLoadResult {
+    private final ParkingLot parkingLot;
+    private final String message;
+
+    private ParkingLotLoadResult(ParkingLot parkingLot, String message) {
+        this.parkingLot = parkingLot;
+        this.message = normalizeMessage(message);
+    }
+
+    public static ParkingLotLoadResult loaded(ParkingLot parkingLot) {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Loaded parking lot result must include a parking lot");
+        }
+
+        return new ParkingLotLoadResult(parkingLot, "Parking lot loaded successfully");
+    }
+
+    public static ParkingLotLoadResult failed(String message) {
+        return new ParkingLotLoadResult(null, message);
+    }
+
+    public ParkingLot getParkingLot() {
+        if (parkingLot == null) {
+            throw new IllegalStateException("Failed load result does not contain a parking lot");
+        }
+
+        return parkingLot;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isLoaded() {
+        return parkingLot != null;
+    }
+
+    public boolean isFailed() {
+        return parkingLot == null;
+    }
+
+    private static String normalizeMessage(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return "Parking lot could not be loaded";
+        }
+
+        return value.trim();
+    }
+}
@@ -5,5 +5,9 @@ import domain.entities.ParkingLot;
 public interface ParkingLotRepository {
     ParkingLot load(int size);
 
+    ParkingLotLoadResult tryLoad(int size);
+
     <T> ParkingLotUpdateResult<T> update(int size, ParkingLotUpdateCommand<T> command);
-}
\ No newline at end of file
+
+    long getVersion();
+}
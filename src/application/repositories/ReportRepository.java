@@ -4,4 +4,6 @@ import domain.entities.ParkingLot;
 
 public interface ReportRepository {
     String generate(ParkingLot parkingLot);
-}
\ No newline at end of file
+
+    boolean exists(String filePath);
+}
@@ -0,0 +1,201 @@
+package application.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class AdmissionController {
+    public static final String ANONYMOUS_CLIENT_ID = "anonymous";
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final AdmissionController DISABLED = new AdmissionController();
+
+    private final boolean enabled;
+    private final int maxConcurrentPerClient;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final Map<String, Integer> inFlightByClient;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private long admittedCount;
+    private long rejectedCount;
+
+    public AdmissionController(
+            int maxConcurrentPerClient,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            long latencyTargetMillis
+    ) {
+        if (maxConcurrentPerClient <= 0) {
+            throw new IllegalArgumentException("Per-client concurrency limit must be greater than zero");
+        }
+
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 0 < minimum <= maximum");
+        }
+
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial concurrency limit must be between the minimum and maximum");
+        }
+
+        if (latencyTargetMillis <= 0) {
+            throw new IllegalArgumentException("Latency target must be greater than zero");
+        }
+
+        this.enabled = true;
+        this.maxConcurrentPerClient = maxConcurrentPerClient;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.inFlightByClient = new HashMap<>();
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime() - latencyTargetNanos;
+    }
+
+    private AdmissionController() {
+        this.enabled = false;
+        this.maxConcurrentPerClient = 0;
+        this.minLimit = 0;
+        this.maxLimit = 0;
+        this.latencyTargetNanos = 0L;
+        this.inFlightByClient = null;
+    }
+
+    public static AdmissionController disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized Permit tryAcquire(String clientId) {
+        String client = normalizeClientId(clientId);
+
+        if (!enabled) {
+            return new Permit(this, client, null);
+        }
+
+        if (inFlight >= (int) limit) {
+            rejectedCount++;
+            return Permit.rejected(
+                    "Parking service is at its concurrency limit of " + (int) limit + " request(s)"
+            );
+        }
+
+        int clientInFlight = inFlightByClient.getOrDefault(client, 0);
+
+        if (clientInFlight >= maxConcurrentPerClient) {
+            rejectedCount++;
+            return Permit.rejected(
+                    "Client " + client + " already has " + clientInFlight + " request(s) in progress"
+            );
+        }
+
+        inFlight++;
+        inFlightByClient.put(client, clientInFlight + 1);
+        admittedCount++;
+
+        return new Permit(this, client, null);
+    }
+
+    public synchronized void recordCommitLatency(long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        if (latencyNanos > latencyTargetNanos) {
+            if (now - lastDecreaseNanos >= latencyTargetNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlight >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    private synchronized void release(String client) {
+        if (!enabled) {
+            return;
+        }
+
+        inFlight--;
+
+        int clientInFlight = inFlightByClient.getOrDefault(client, 1) - 1;
+
+        if (clientInFlight <= 0) {
+            inFlightByClient.remove(client);
+        } else {
+            inFlightByClient.put(client, clientInFlight);
+        }
+    }
+
+    private static String normalizeClientId(String clientId) {
+        if (clientId == null || clientId.trim().isEmpty()) {
+            return ANONYMOUS_CLIENT_ID;
+        }
+
+        return clientId.trim();
+    }
+
+    public static final class Permit implements AutoCloseable {
+        private final AdmissionController controller;
+        private final String clientId;
+        private final String rejectionReason;
+
+        private boolean released;
+
+        private Permit(AdmissionController controller, String clientId, String rejectionReason) {
+            this.controller = controller;
+            this.clientId = clientId;
+            this.rejectionReason = rejectionReason;
+        }
+
+        private static Permit rejected(String reason) {
+            return new Permit(null, "", reason);
+        }
+
+        public boolean isAdmitted() {
+            return controller != null;
+        }
+
+        public String getRejectionReason() {
+            return rejectionReason == null ? "" : rejectionReason;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (released || controller == null) {
+                    return;
+                }
+
+                released = true;
+            }
+
+            controller.release(clientId);
+        }
+    }
+}
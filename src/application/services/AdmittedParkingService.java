@@ -0,0 +1,84 @@
+package application.services;
+
+import application.dto.BatchParkRequest;
+import application.dto.BatchParkResponse;
+import application.dto.BatchUnparkRequest;
+import application.dto.BatchUnparkResponse;
+import application.dto.FindCarRequest;
+import application.dto.FindCarResponse;
+import application.dto.FindCarsResponse;
+import application.dto.OperationResult;
+import application.dto.ParkCarRequest;
+import application.dto.ParkCarResponse;
+import application.dto.SearchCarsResponse;
+import application.dto.UnparkCarRequest;
+import application.dto.UnparkCarResponse;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+public final class AdmittedParkingService {
+    private final ParkingService parkingService;
+    private final AdmissionController admissionController;
+
+    public AdmittedParkingService(ParkingService parkingService) {
+        this(parkingService, AdmissionController.disabled());
+    }
+
+    public AdmittedParkingService(ParkingService parkingService, AdmissionController admissionController) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (admissionController == null) {
+            throw new IllegalArgumentException("Admission controller cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.admissionController = admissionController;
+    }
+
+    public OperationResult<ParkCarResponse> parkCar(String clientId, ParkCarRequest request) {
+        return admit(clientId, () -> parkingService.parkCar(request));
+    }
+
+    public OperationResult<UnparkCarResponse> unparkCar(String clientId, UnparkCarRequest request) {
+        return admit(clientId, () -> parkingService.unparkCar(request));
+    }
+
+    public OperationResult<BatchParkResponse> batchPark(String clientId, BatchParkRequest request) {
+        return admit(clientId, () -> parkingService.batchPark(request));
+    }
+
+    public OperationResult<BatchUnparkResponse> batchUnpark(String clientId, BatchUnparkRequest request) {
+        return admit(clientId, () -> parkingService.batchUnpark(request));
+    }
+
+    public OperationResult<FindCarResponse> findCar(String clientId, FindCarRequest request) {
+        return admit(clientId, () -> parkingService.findCar(request));
+    }
+
+    public OperationResult<FindCarsResponse> findCars(String clientId, Collection<String> licensePlates) {
+        return admit(clientId, () -> parkingService.findCars(licensePlates));
+    }
+
+    public OperationResult<SearchCarsResponse> searchCars(String clientId, String query, int limit) {
+        return admit(clientId, () -> parkingService.searchCars(query, limit));
+    }
+
+    private <T> OperationResult<T> admit(String clientId, Supplier<OperationResult<T>> operation) {
+        AdmissionController.Permit permit = admissionController.tryAcquire(clientId);
+
+        if (!permit.isAdmitted()) {
+            return OperationResult.failure(
+                    "ADMISSION_REJECTED",
+                    permit.getRejectionReason(),
+                    "Wait a moment and try again."
+            );
+        }
+
+        try (permit) {
+            return operation.get();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package application.services;
+
+import application.dto.BatchParkRequest;
+import application.dto.BatchParkResponse;
+import application.dto.BatchUnparkRequest;
+import application.dto.BatchUnparkResponse;
+import application.dto.FindCarRequest;
+import application.dto.FindCarResponse;
+import application.dto.FindCarsResponse;
+import application.dto.LoadParkingDataResponse;
+import application.dto.OperationResult;
+import application.dto.ParkCarRequest;
+import application.dto.ParkCarResponse;
+import application.dto.SearchCarsResponse;
+import application.dto.UnparkCarRequest;
+import application.dto.UnparkCarResponse;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+public final class AsyncParkingService {
+    private final ParkingService parkingService;
+    private final Executor executor;
+
+    public AsyncParkingService(ParkingService parkingService, Executor executor) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<OperationResult<LoadParkingDataResponse>> loadParkingData() {
+        return submit(parkingService::loadParkingData);
+    }
+
+    public CompletableFuture<OperationResult<ParkCarResponse>> parkCar(ParkCarRequest request) {
+        return submit(() -> parkingService.parkCar(request));
+    }
+
+    public CompletableFuture<OperationResult<BatchParkResponse>> batchPark(BatchParkRequest request) {
+        return submit(() -> parkingService.batchPark(request));
+    }
+
+    public CompletableFuture<OperationResult<UnparkCarResponse>> unparkCar(UnparkCarRequest request) {
+        return submit(() -> parkingService.unparkCar(request));
+    }
+
+    public CompletableFuture<OperationResult<BatchUnparkResponse>> batchUnpark(BatchUnparkRequest request) {
+        return submit(() -> parkingService.batchUnpark(request));
+    }
+
+    public CompletableFuture<OperationResult<FindCarResponse>> findCar(FindCarRequest request) {
+        return submit(() -> parkingService.findCar(request));
+    }
+
+    public CompletableFuture<OperationResult<FindCarsResponse>> findCars(Collection<String> licensePlates) {
+        return submit(() -> parkingService.findCars(licensePlates));
+    }
+
+    public CompletableFuture<OperationResult<SearchCarsResponse>> searchCars(String query, int limit) {
+        return submit(() -> parkingService.searchCars(query, limit));
+    }
+
+    private <T> CompletableFuture<OperationResult<T>> submit(Supplier<OperationResult<T>> operation) {
+        try {
+            return CompletableFuture.supplyAsync(() -> runSafely(operation), executor);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.completedFuture(OperationResult.failure(
+                    "OPERATION_REJECTED",
+                    "The parking service is busy and could not accept the operation",
+                    "Wait a moment and try again."
+            ));
+        }
+    }
+
+    private <T> OperationResult<T> runSafely(Supplier<OperationResult<T>> operation) {
+        try {
+            return operation.get();
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "ASYNC_OPERATION_FAILED",
+                    "The operation failed because an unexpected error occurred",
+                    "Try again. If the issue continues, restart the application."
+            );
+        }
+    }
+}
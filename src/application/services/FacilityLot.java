@@ -0,0 +1,49 @@
+package application.services;
+
+import application.repositories.ParkingLotRepository;
+
+public final class FacilityLot {
+    private final String name;
+    private final int size;
+    private final ParkingService parkingService;
+    private final ParkingLotRepository repository;
+
+    public FacilityLot(String name, int size, ParkingService parkingService, ParkingLotRepository repository) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Parking lot name cannot be empty");
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (repository == null) {
+            throw new IllegalArgumentException("Parking lot repository cannot be null");
+        }
+
+        this.name = name.trim();
+        this.size = size;
+        this.parkingService = parkingService;
+        this.repository = repository;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public ParkingService getParkingService() {
+        return parkingService;
+    }
+
+    public ParkingLotRepository getRepository() {
+        return repository;
+    }
+}
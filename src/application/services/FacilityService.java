@@ -0,0 +1,311 @@
+package application.services;
+
+import application.dto.FacilityCapacityResponse;
+import application.dto.FacilityFindCarResponse;
+import application.dto.FacilityReportResponse;
+import application.dto.FindCarRequest;
+import application.dto.LoadParkingDataResponse;
+import application.dto.LotCapacity;
+import application.dto.OperationResult;
+import application.dto.ParkCarRequest;
+import application.dto.ParkCarResponse;
+import application.dto.UnparkCarRequest;
+import application.dto.UnparkCarResponse;
+import application.repositories.FacilityReportRepository;
+import application.repositories.ParkingLotLoadResult;
+import domain.entities.ParkingLot;
+import domain.entities.ParkingSlot;
+import domain.exceptions.DomainException;
+import domain.valueobjects.LicensePlate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+public final class FacilityService {
+    private final Map<String, FacilityLot> lotsByName;
+    private final FacilityReportRepository reportRepository;
+    private final Executor executor;
+
+    public FacilityService(List<FacilityLot> lots, FacilityReportRepository reportRepository, Executor executor) {
+        if (lots == null || lots.isEmpty()) {
+            throw new IllegalArgumentException("Facility must contain at least one parking lot");
+        }
+
+        if (reportRepository == null) {
+            throw new IllegalArgumentException("Facility report repository cannot be null");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+
+        Map<String, FacilityLot> lotsByName = new LinkedHashMap<>();
+
+        for (FacilityLot lot : lots) {
+            if (lot == null) {
+                throw new IllegalArgumentException("Parking lot cannot be null");
+            }
+
+            if (lotsByName.putIfAbsent(lot.getName(), lot) != null) {
+                throw new IllegalArgumentException("Duplicate parking lot name: " + lot.getName());
+            }
+        }
+
+        this.lotsByName = Collections.unmodifiableMap(lotsByName);
+        this.reportRepository = reportRepository;
+        this.executor = executor;
+    }
+
+    public List<String> getLotNames() {
+        return new ArrayList<>(lotsByName.keySet());
+    }
+
+    public Optional<FacilityLot> findLot(String lotName) {
+        if (lotName == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(lotsByName.get(lotName.trim()));
+    }
+
+    public OperationResult<LoadParkingDataResponse> loadParkingData(String lotName) {
+        return withLot(lotName, lot -> lot.getParkingService().loadParkingData());
+    }
+
+    public OperationResult<ParkCarResponse> parkCar(String lotName, ParkCarRequest request) {
+        return withLot(lotName, lot -> lot.getParkingService().parkCar(request));
+    }
+
+    public OperationResult<UnparkCarResponse> unparkCar(String lotName, UnparkCarRequest request) {
+        return withLot(lotName, lot -> lot.getParkingService().unparkCar(request));
+    }
+
+    public OperationResult<FacilityFindCarResponse> findCar(FindCarRequest request) {
+        if (request == null || request.getLicensePlate().isEmpty()) {
+            return OperationResult.failure(
+                    "INVALID_SEARCH_REQUEST",
+                    "License plate is required",
+                    "Enter a valid license plate and try again."
+            );
+        }
+
+        LicensePlate licensePlate;
+
+        try {
+            licensePlate = LicensePlate.of(request.getLicensePlate());
+        } catch (DomainException exception) {
+            return OperationResult.failure(
+                    "FIND_CAR_DOMAIN_ERROR",
+                    exception.getMessage(),
+                    "Check the license plate and try again."
+            );
+        }
+
+        Map<FacilityLot, OperationResult<ParkingLot>> results = fanOut(this::loadLot);
+        List<String> unavailableLots = new ArrayList<>();
+
+        for (Map.Entry<FacilityLot, OperationResult<ParkingLot>> entry : results.entrySet()) {
+            OperationResult<ParkingLot> result = entry.getValue();
+
+            if (result.isFailure() || result.getData() == null) {
+                unavailableLots.add(entry.getKey().getName());
+                continue;
+            }
+
+            Optional<ParkingSlot> slot = result.getData().findSlotByPlate(licensePlate);
+
+            if (slot.isPresent()) {
+                String lotName = entry.getKey().getName();
+                int slotNumber = slot.get().getNumber();
+
+                return OperationResult.success(
+                        "Car " + licensePlate.getValue() + " found in lot " + lotName + ", slot " + slotNumber,
+                        new FacilityFindCarResponse(true, lotName, slotNumber, licensePlate.getValue(), unavailableLots)
+                );
+            }
+        }
+
+        if (unavailableLots.size() == results.size()) {
+            return OperationResult.failure(
+                    "FACILITY_QUERY_FAILED",
+                    "Search failed because no parking lot could be read",
+                    "Check the parking data files and try again."
+            );
+        }
+
+        String message = unavailableLots.isEmpty()
+                ? "Car " + licensePlate.getValue() + " was not found in any parking lot"
+                : "Car " + licensePlate.getValue() + " was not found. " + unavailableLots.size() + " parking lot(s) could not be searched";
+
+        return OperationResult.success(
+                message,
+                new FacilityFindCarResponse(false, "", 0, licensePlate.getValue(), unavailableLots)
+        );
+    }
+
+    public OperationResult<FacilityCapacityResponse> getCapacity() {
+        Map<FacilityLot, OperationResult<ParkingLot>> results = fanOut(this::loadLot);
+        List<LotCapacity> capacities = new ArrayList<>(results.size());
+        List<String> unavailableLots = new ArrayList<>();
+
+        for (Map.Entry<FacilityLot, OperationResult<ParkingLot>> entry : results.entrySet()) {
+            OperationResult<ParkingLot> result = entry.getValue();
+
+            if (result.isFailure() || result.getData() == null) {
+                unavailableLots.add(entry.getKey().getName());
+                continue;
+            }
+
+            ParkingLot parkingLot = result.getData();
+            capacities.add(new LotCapacity(
+                    entry.getKey().getName(),
+                    parkingLot.getSize(),
+                    parkingLot.getOccupiedSlotCount(),
+                    parkingLot.getAvailableSlotCount()
+            ));
+        }
+
+        if (capacities.isEmpty()) {
+            return OperationResult.failure(
+                    "FACILITY_QUERY_FAILED",
+                    "Capacity could not be read because no parking lot could be read",
+                    "Check the parking data files and try again."
+            );
+        }
+
+        FacilityCapacityResponse response = new FacilityCapacityResponse(capacities, unavailableLots);
+        String message = response.isComplete()
+                ? response.getAvailableSlots() + " of " + response.getTotalSlots() + " slot(s) available"
+                : response.getAvailableSlots() + " slot(s) available in " + capacities.size() + " readable parking lot(s)";
+
+        return OperationResult.success(message, response);
+    }
+
+    public OperationResult<FacilityReportResponse> generateReport() {
+        Map<FacilityLot, OperationResult<ParkingLot>> results = fanOut(this::loadLot);
+        Map<String, ParkingLot> parkingLotsByName = new LinkedHashMap<>();
+        List<String> unavailableLots = new ArrayList<>();
+
+        for (Map.Entry<FacilityLot, OperationResult<ParkingLot>> entry : results.entrySet()) {
+            OperationResult<ParkingLot> result = entry.getValue();
+
+            if (result.isFailure() || result.getData() == null) {
+                unavailableLots.add(entry.getKey().getName());
+            } else {
+                parkingLotsByName.put(entry.getKey().getName(), result.getData());
+            }
+        }
+
+        if (!unavailableLots.isEmpty()) {
+            return OperationResult.failure(
+                    "FACILITY_REPORT_INCOMPLETE",
+                    "Report was not generated because these parking lots could not be read: " + String.join(", ", unavailableLots),
+                    "Check the parking data files for those lots and try again."
+            );
+        }
+
+        try {
+            String filePath = reportRepository.generate(parkingLotsByName);
+
+            if (filePath == null || filePath.trim().isEmpty()) {
+                return OperationResult.failure(
+                        "REPORT_GENERATION_FAILED",
+                        "Report generation failed",
+                        "Check file permissions and try again."
+                );
+            }
+
+            return OperationResult.success(
+                    "Facility report generated successfully at " + filePath.trim(),
+                    new FacilityReportResponse(filePath, parkingLotsByName.size())
+            );
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "REPORT_GENERATION_ERROR",
+                    "Report generation failed because an unexpected error occurred",
+                    "Close any open report file and try again."
+            );
+        }
+    }
+
+    private <T> OperationResult<T> withLot(String lotName, Function<FacilityLot, OperationResult<T>> operation) {
+        Optional<FacilityLot> lot = findLot(lotName);
+
+        if (lot.isEmpty()) {
+            return OperationResult.failure(
+                    "LOT_NOT_FOUND",
+                    "Parking lot " + (lotName == null ? "" : lotName.trim()) + " does not exist",
+                    "Choose one of: " + String.join(", ", lotsByName.keySet())
+            );
+        }
+
+        return operation.apply(lot.get());
+    }
+
+    private OperationResult<ParkingLot> loadLot(FacilityLot lot) {
+        ParkingLotLoadResult result = lot.getRepository().tryLoad(lot.getSize());
+
+        if (result.isFailed()) {
+            return OperationResult.failure(
+                    "LOT_LOAD_FAILED",
+                    "Parking lot " + lot.getName() + " could not be read: " + result.getMessage(),
+                    "Check the parking data file for this lot and try again."
+            );
+        }
+
+        return OperationResult.success("Parking lot loaded", result.getParkingLot());
+    }
+
+    private <T> Map<FacilityLot, OperationResult<T>> fanOut(Function<FacilityLot, OperationResult<T>> operation) {
+        Map<FacilityLot, CompletableFuture<OperationResult<T>>> futures = new LinkedHashMap<>();
+
+        for (FacilityLot lot : lotsByName.values()) {
+            futures.put(lot, submit(lot, operation));
+        }
+
+        Map<FacilityLot, OperationResult<T>> results = new LinkedHashMap<>();
+
+        for (Map.Entry<FacilityLot, CompletableFuture<OperationResult<T>>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().join());
+        }
+
+        return results;
+    }
+
+    private <T> CompletableFuture<OperationResult<T>> submit(
+            FacilityLot lot,
+            Function<FacilityLot, OperationResult<T>> operation
+    ) {
+        try {
+            return CompletableFuture.supplyAsync(() -> runSafely(lot, operation), executor);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.completedFuture(runSafely(lot, operation));
+        }
+    }
+
+    private <T> OperationResult<T> runSafely(FacilityLot lot, Function<FacilityLot, OperationResult<T>> operation) {
+        try {
+            OperationResult<T> result = operation.apply(lot);
+
+            if (result == null) {
+                throw new IllegalStateException("Parking lot operation returned no result");
+            }
+
+            return result;
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "LOT_OPERATION_FAILED",
+                    "Parking lot " + lot.getName() + " could not be read",
+                    "Check the parking data file for this lot and try again."
+            );
+        }
+    }
+}
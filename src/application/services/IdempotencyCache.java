@@ -0,0 +1,159 @@
+package application.services;
+
+import application.dto.OperationResult;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class IdempotencyCache<T> {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry<T>> entries;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum cache entries must be greater than zero");
+        }
+
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("Cache time-to-live must be greater than zero");
+        }
+
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>();
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+    }
+
+    public OperationResult<T> execute(String requestId, String payload, Supplier<OperationResult<T>> operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+
+        if (requestId == null || requestId.trim().isEmpty()) {
+            return operation.get();
+        }
+
+        String key = requestId.trim();
+        String normalizedPayload = payload == null ? "" : payload;
+        Entry<T> entry;
+        boolean owner = false;
+
+        synchronized (entries) {
+            long now = System.nanoTime();
+            removeExpired(now);
+            entry = entries.get(key);
+
+            if (entry == null) {
+                entry = new Entry<>(normalizedPayload, now + ttlNanos);
+                entries.put(key, entry);
+                owner = true;
+
+                if (entries.size() > maxEntries) {
+                    evictOldest(key);
+                }
+            }
+        }
+
+        if (!owner) {
+            if (!entry.payload.equals(normalizedPayload)) {
+                return OperationResult.failure(
+                        "REQUEST_ID_CONFLICT",
+                        "Request ID " + key + " was already used for a different request",
+                        "Use a new request ID for a different request."
+                );
+            }
+
+            hitCount.incrementAndGet();
+            return entry.result.join();
+        }
+
+        missCount.incrementAndGet();
+
+        OperationResult<T> result;
+
+        try {
+            result = operation.get();
+        } catch (RuntimeException exception) {
+            forget(key, entry);
+            entry.result.completeExceptionally(exception);
+            throw exception;
+        }
+
+        if (result == null || result.isFailure()) {
+            forget(key, entry);
+        }
+
+        entry.result.complete(result);
+        return result;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            removeExpired(System.nanoTime());
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void forget(String key, Entry<T> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private void removeExpired(long now) {
+        Iterator<Entry<T>> iterator = entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+
+            if (now - entry.expiresAtNanos < 0) {
+                return;
+            }
+
+            if (entry.result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictOldest(String retainedKey) {
+        Iterator<Map.Entry<String, Entry<T>>> iterator = entries.entrySet().iterator();
+
+        while (iterator.hasNext() && entries.size() > maxEntries) {
+            Map.Entry<String, Entry<T>> entry = iterator.next();
+
+            if (!entry.getKey().equals(retainedKey) && entry.getValue().result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        private final String payload;
+        private final long expiresAtNanos;
+        private final CompletableFuture<OperationResult<T>> result;
+
+        private Entry(String payload, long expiresAtNanos) {
+            this.payload = payload;
+            this.expiresAtNanos = expiresAtNanos;
+            this.result = new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package application.services;
+
+import application.dto.BatchParkRequest;
+import application.dto.BatchParkResponse;
+import application.dto.BatchParkResult;
+import application.dto.OperationResult;
+import application.dto.ParkCarRequest;
+import application.dto.ParkCarResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public final class ParkRequestBatcher implements AutoCloseable {
+    private static final String THREAD_NAME = "park-request-batcher";
+    private static final PendingParkRequest SHUTDOWN_SIGNAL = new PendingParkRequest(null, null);
+
+    private final ParkingService parkingService;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingParkRequest> pendingRequests;
+
+    private volatile boolean closed;
+    private Thread worker;
+
+    public ParkRequestBatcher(ParkingService parkingService, int maxBatchSize, long maxDelayMillis) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be greater than zero");
+        }
+
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Maximum batch delay cannot be negative");
+        }
+
+        this.parkingService = parkingService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.pendingRequests = new LinkedBlockingQueue<>();
+    }
+
+    public synchronized void start() {
+        if (worker != null || closed) {
+            return;
+        }
+
+        worker = new Thread(this::processBatches, THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public CompletableFuture<OperationResult<ParkCarResponse>> submit(ParkCarRequest request) {
+        CompletableFuture<OperationResult<ParkCarResponse>> future = new CompletableFuture<>();
+
+        if (closed) {
+            future.complete(closedFailure());
+            return future;
+        }
+
+        PendingParkRequest pendingRequest = new PendingParkRequest(request, future);
+        pendingRequests.add(pendingRequest);
+
+        if (closed && pendingRequests.remove(pendingRequest)) {
+            future.complete(closedFailure());
+        }
+
+        return future;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (worker != null) {
+            pendingRequests.add(SHUTDOWN_SIGNAL);
+
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        PendingParkRequest pendingRequest;
+
+        while ((pendingRequest = pendingRequests.poll()) != null) {
+            if (pendingRequest != SHUTDOWN_SIGNAL) {
+                pendingRequest.future.complete(closedFailure());
+            }
+        }
+    }
+
+    private void processBatches() {
+        List<PendingParkRequest> batch = new ArrayList<>(maxBatchSize);
+        boolean running = true;
+
+        while (running) {
+            try {
+                running = collectBatch(batch);
+            } catch (InterruptedException exception) {
+                running = false;
+                Thread.currentThread().interrupt();
+            }
+
+            if (!batch.isEmpty()) {
+                apply(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private boolean collectBatch(List<PendingParkRequest> batch) throws InterruptedException {
+        PendingParkRequest first = pendingRequests.take();
+
+        if (first == SHUTDOWN_SIGNAL) {
+            return false;
+        }
+
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+
+        while (batch.size() < maxBatchSize) {
+            long remainingNanos = deadline - System.nanoTime();
+            PendingParkRequest next = remainingNanos <= 0
+                    ? pendingRequests.poll()
+                    : pendingRequests.poll(remainingNanos, TimeUnit.NANOSECONDS);
+
+            if (next == null) {
+                return true;
+            }
+
+            if (next == SHUTDOWN_SIGNAL) {
+                return false;
+            }
+
+            batch.add(next);
+        }
+
+        return true;
+    }
+
+    private void apply(List<PendingParkRequest> batch) {
+        List<String> licensePlates = new ArrayList<>(batch.size());
+
+        for (PendingParkRequest pendingRequest : batch) {
+            licensePlates.add(pendingRequest.request == null ? "" : pendingRequest.request.getLicensePlate());
+        }
+
+        try {
+            OperationResult<BatchParkResponse> result = parkingService.batchPark(
+                    new BatchParkRequest(licensePlates, BatchParkRequest.Mode.BEST_EFFORT)
+            );
+
+            for (int index = 0; index < batch.size(); index++) {
+                batch.get(index).future.complete(toParkCarResult(result, index));
+            }
+        } catch (Exception exception) {
+            for (PendingParkRequest pendingRequest : batch) {
+                pendingRequest.future.complete(OperationResult.failure(
+                        "PARKING_FAILED",
+                        "Parking failed because an unexpected error occurred",
+                        "Try again. If the issue continues, restart the application."
+                ));
+            }
+        }
+    }
+
+    private OperationResult<ParkCarResponse> toParkCarResult(OperationResult<BatchParkResponse> result, int index) {
+        if (result.isFailure()) {
+            return OperationResult.failure(result.getMessage(), result.getError());
+        }
+
+        BatchParkResponse response = result.getData();
+        BatchParkResult plateResult = response.getResults().get(index);
+
+        if (!plateResult.isParked()) {
+            return OperationResult.failure(
+                    plateResult.getErrorCode(),
+                    plateResult.getMessage(),
+                    "Correct the license plate and try again."
+            );
+        }
+
+        return OperationResult.success(
+                "Car " + plateResult.getLicensePlate() + " parked in slot " + plateResult.getSlotNumber(),
+                new ParkCarResponse(plateResult.getSlotNumber(), plateResult.getLicensePlate(), response.getDelta())
+        );
+    }
+
+    private OperationResult<ParkCarResponse> closedFailure() {
+        return OperationResult.failure(
+                "PARK_BATCHER_CLOSED",
+                "Parking requests are no longer being accepted",
+                "Restart the application and try again."
+        );
+    }
+
+    private static final class PendingParkRequest {
+        private final ParkCarRequest request;
+        private final CompletableFuture<OperationResult<ParkCarResponse>> future;
+
+        private PendingParkRequest(ParkCarRequest request, CompletableFuture<OperationResult<ParkCarResponse>> future) {
+            this.request = request;
+            this.future = future;
+        }
+    }
+}
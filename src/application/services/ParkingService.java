@@ -1,39 +1,119 @@
 package application.services;
 
+import application.events.ParkingEvent;
+import application.events.ParkingEventListener;
+import application.dto.BatchParkRequest;
+import application.dto.BatchParkResponse;
+import application.dto.BatchParkResult;
 import application.dto.BatchUnparkRequest;
 import application.dto.BatchUnparkResponse;
+import application.dto.ExternalSlotChanges;
 import application.dto.FindCarRequest;
 import application.dto.FindCarResponse;
+import application.dto.FindCarsResponse;
 import application.dto.LoadParkingDataResponse;
 import application.dto.OperationResult;
 import application.dto.ParkCarRequest;
 import application.dto.ParkCarResponse;
+import application.dto.ParkingLotDelta;
 import application.dto.ParkingLotViewData;
+import application.dto.PlateLookupResult;
+import application.dto.PlateSearchResult;
+import application.dto.SearchCarsResponse;
 import application.dto.SlotViewData;
 import application.dto.UnparkCarRequest;
 import application.dto.UnparkCarResponse;
 import application.repositories.ParkingLotRepository;
 import application.repositories.ParkingLotUpdateResult;
+import application.tracing.Tracer;
 import application.validators.ParkingRequestValidator;
 import domain.entities.Car;
 import domain.entities.ParkingLot;
 import domain.entities.ParkingSlot;
 import domain.exceptions.DomainException;
+import domain.exceptions.DuplicateParkedCarException;
+import domain.exceptions.InvalidLicensePlateException;
+import domain.exceptions.ParkingLotFullException;
 import domain.valueobjects.LicensePlate;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 public final class ParkingService {
+    private static final int PARALLEL_LOOKUP_THRESHOLD = 512;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int DEFAULT_REQUEST_CACHE_SIZE = 1024;
+    private static final Duration DEFAULT_REQUEST_TTL = Duration.ofMinutes(10);
+    private static final BiConsumer<String, Throwable> NO_ERROR_REPORTER = (message, exception) -> {
+    };
+
     private final ParkingLotRepository parkingLotRepository;
     private final ParkingRequestValidator requestValidator;
     private final int parkingLotSize;
+    private final Tracer tracer;
+    private final AtomicLong viewVersion;
+    private final Object searchIndexLock;
+    private final IdempotencyCache<ParkCarResponse> parkRequests;
+    private final IdempotencyCache<UnparkCarResponse> unparkRequests;
+    private final List<ParkingEventListener> eventListeners;
+    private final BiConsumer<String, Throwable> errorReporter;
+
+    private PlateSearchIndex searchIndex;
+    private boolean searchIndexBuilt;
+    private long indexedViewVersion;
+    private long indexedRepositoryVersion;
 
     public ParkingService(
             ParkingLotRepository parkingLotRepository,
             ParkingRequestValidator requestValidator,
             int parkingLotSize
+    ) {
+        this(parkingLotRepository, requestValidator, parkingLotSize, DEFAULT_REQUEST_CACHE_SIZE, DEFAULT_REQUEST_TTL);
+    }
+
+    public ParkingService(
+            ParkingLotRepository parkingLotRepository,
+            ParkingRequestValidator requestValidator,
+            int parkingLotSize,
+            int requestCacheSize,
+            Duration requestTtl
+    ) {
+        this(parkingLotRepository, requestValidator, parkingLotSize, requestCacheSize, requestTtl, Tracer.disabled());
+    }
+
+    public ParkingService(
+            ParkingLotRepository parkingLotRepository,
+            ParkingRequestValidator requestValidator,
+            int parkingLotSize,
+            int requestCacheSize,
+            Duration requestTtl,
+            Tracer tracer
+    ) {
+        this(parkingLotRepository, requestValidator, parkingLotSize, requestCacheSize, requestTtl, tracer, NO_ERROR_REPORTER);
+    }
+
+    public ParkingService(
+            ParkingLotRepository parkingLotRepository,
+            ParkingRequestValidator requestValidator,
+            int parkingLotSize,
+            int requestCacheSize,
+            Duration requestTtl,
+            Tracer tracer,
+            BiConsumer<String, Throwable> errorReporter
     ) {
         if (parkingLotRepository == null) {
             throw new IllegalArgumentException("Parking lot repository cannot be null");
@@ -47,15 +127,48 @@ public final class ParkingService {
             throw new IllegalArgumentException("Parking lot size must be greater than zero");
         }
 
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
+        if (errorReporter == null) {
+            throw new IllegalArgumentException("Error reporter cannot be null");
+        }
+
         this.parkingLotRepository = parkingLotRepository;
         this.requestValidator = requestValidator;
         this.parkingLotSize = parkingLotSize;
+        this.tracer = tracer;
+        this.errorReporter = errorReporter;
+        this.viewVersion = new AtomicLong();
+        this.searchIndexLock = new Object();
+        this.searchIndex = new PlateSearchIndex();
+        this.parkRequests = new IdempotencyCache<>(requestCacheSize, requestTtl);
+        this.unparkRequests = new IdempotencyCache<>(requestCacheSize, requestTtl);
+        this.eventListeners = new CopyOnWriteArrayList<>();
+    }
+
+    public void addParkingEventListener(ParkingEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Parking event listener cannot be null");
+        }
+
+        eventListeners.add(listener);
+    }
+
+    public void removeParkingEventListener(ParkingEventListener listener) {
+        eventListeners.remove(listener);
     }
 
     public OperationResult<LoadParkingDataResponse> loadParkingData() {
+        return tracer.trace("service.loadParkingData", this::performLoadParkingData);
+    }
+
+    private OperationResult<LoadParkingDataResponse> performLoadParkingData() {
         try {
+            long version = viewVersion.get();
             ParkingLot parkingLot = parkingLotRepository.load(parkingLotSize);
-            ParkingLotViewData viewData = toParkingLotViewData(parkingLot);
+            ParkingLotViewData viewData = toParkingLotViewData(parkingLot, version);
 
             return OperationResult.success(
                     "Parking data loaded successfully",
@@ -71,7 +184,11 @@ public final class ParkingService {
     }
 
     public OperationResult<ParkCarResponse> parkCar(ParkCarRequest request) {
-        OperationResult<Void> validationResult = requestValidator.validateParkRequest(request);
+        return tracer.trace("service.parkCar", () -> performParkCar(request));
+    }
+
+    private OperationResult<ParkCarResponse> performParkCar(ParkCarRequest request) {
+        OperationResult<Void> validationResult = validate(() -> requestValidator.validateParkRequest(request));
 
         if (validationResult.isFailure()) {
             return OperationResult.failure(
@@ -81,24 +198,32 @@ public final class ParkingService {
             );
         }
 
+        return parkRequests.execute(
+                request.getRequestId(),
+                PlateSearchIndex.toSearchKey(request.getLicensePlate()),
+                () -> parkValidatedCar(request)
+        );
+    }
+
+    private OperationResult<ParkCarResponse> parkValidatedCar(ParkCarRequest request) {
         try {
             ParkingLotUpdateResult<ParkCarResponse> updateResult = parkingLotRepository.update(
                     parkingLotSize,
                     parkingLot -> {
                         Car car = new Car(request.getLicensePlate());
                         ParkingSlot slot = parkingLot.park(car);
-                        ParkingLotViewData viewData = toParkingLotViewData(parkingLot);
 
                         return new ParkCarResponse(
                                 slot.getNumber(),
                                 car.getLicensePlate(),
-                                viewData
+                                toParkingLotDelta(parkingLot, List.of(slot.getNumber()))
                         );
                     }
             );
 
             if (updateResult.isCommitted()) {
                 ParkCarResponse response = updateResult.getData();
+                onParkingLotChanged(response.getDelta());
 
                 return OperationResult.success(
                         "Car " + response.getLicensePlate() + " parked in slot " + response.getSlotNumber(),
@@ -127,8 +252,95 @@ public final class ParkingService {
         }
     }
 
+    public OperationResult<BatchParkResponse> batchPark(BatchParkRequest request) {
+        return tracer.trace("service.batchPark", () -> performBatchPark(request));
+    }
+
+    private OperationResult<BatchParkResponse> performBatchPark(BatchParkRequest request) {
+        OperationResult<Void> validationResult = validate(() -> requestValidator.validateBatchParkRequest(request));
+
+        if (validationResult.isFailure()) {
+            return OperationResult.failure(
+                    "BATCH_PARK_REQUEST_INVALID",
+                    validationResult.getMessage(),
+                    "Provide at least one license plate and try again."
+            );
+        }
+
+        boolean allOrNothing = request.getMode() == BatchParkRequest.Mode.ALL_OR_NOTHING;
+        List<String> licensePlates = request.getLicensePlates();
+        LicensePlate[] batchPlates = new LicensePlate[licensePlates.size()];
+        BatchParkResult[] rejectedPlates = new BatchParkResult[licensePlates.size()];
+        Set<LicensePlate> distinctPlates = new HashSet<>();
+
+        for (int index = 0; index < licensePlates.size(); index++) {
+            String rawLicensePlate = licensePlates.get(index);
+            OperationResult<Void> plateValidation = requestValidator.validateLicensePlate(rawLicensePlate);
+
+            if (plateValidation.isFailure()) {
+                rejectedPlates[index] = BatchParkResult.rejected(rawLicensePlate, "INVALID_LICENSE_PLATE", plateValidation.getMessage());
+            } else {
+                LicensePlate licensePlate = LicensePlate.of(rawLicensePlate);
+
+                if (distinctPlates.add(licensePlate)) {
+                    batchPlates[index] = licensePlate;
+                } else {
+                    rejectedPlates[index] = BatchParkResult.rejected(
+                            licensePlate.getValue(),
+                            "DUPLICATE_IN_BATCH",
+                            "Car " + licensePlate.getValue() + " appears more than once in this batch"
+                    );
+                }
+            }
+
+            if (allOrNothing && rejectedPlates[index] != null) {
+                return batchParkRejected(rejectedPlates[index].getLicensePlate(), rejectedPlates[index].getMessage());
+            }
+        }
+
+        try {
+            ParkingLotUpdateResult<BatchParkResponse> updateResult = parkingLotRepository.update(
+                    parkingLotSize,
+                    parkingLot -> parkBatch(parkingLot, allOrNothing, batchPlates, rejectedPlates, distinctPlates.size())
+            );
+
+            if (updateResult.isCommitted()) {
+                BatchParkResponse response = updateResult.getData();
+                onParkingLotChanged(response.getDelta());
+
+                return OperationResult.success(
+                        "Parked " + response.getParkedCount() + " of " + request.getLicensePlates().size() + " car(s)",
+                        response
+                );
+            }
+
+            return parkingCommitFailure(
+                    updateResult,
+                    "BATCH_PARK_COMMIT_CONFLICT",
+                    "Batch park could not be completed because the parking lot changed. Refresh and try again.",
+                    "Batch park failed because the update could not be committed."
+            );
+        } catch (DomainException exception) {
+            return OperationResult.failure(
+                    "BATCH_PARK_REJECTED",
+                    exception.getMessage(),
+                    "Remove the rejected license plates or free up slots and try again."
+            );
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "BATCH_PARK_FAILED",
+                    "Batch park failed because an unexpected error occurred",
+                    "Try again. If the issue continues, restart the application."
+            );
+        }
+    }
+
     public OperationResult<UnparkCarResponse> unparkCar(UnparkCarRequest request) {
-        OperationResult<Void> validationResult = requestValidator.validateUnparkRequest(request);
+        return tracer.trace("service.unparkCar", () -> performUnparkCar(request));
+    }
+
+    private OperationResult<UnparkCarResponse> performUnparkCar(UnparkCarRequest request) {
+        OperationResult<Void> validationResult = validate(() -> requestValidator.validateUnparkRequest(request));
 
         if (validationResult.isFailure()) {
             return OperationResult.failure(
@@ -138,23 +350,31 @@ public final class ParkingService {
             );
         }
 
+        return unparkRequests.execute(
+                request.getRequestId(),
+                String.valueOf(request.getSlotNumber()),
+                () -> unparkValidatedCar(request)
+        );
+    }
+
+    private OperationResult<UnparkCarResponse> unparkValidatedCar(UnparkCarRequest request) {
         try {
             ParkingLotUpdateResult<UnparkCarResponse> updateResult = parkingLotRepository.update(
                     parkingLotSize,
                     parkingLot -> {
                         Car removedCar = parkingLot.unpark(request.getSlotNumber());
-                        ParkingLotViewData viewData = toParkingLotViewData(parkingLot);
 
                         return new UnparkCarResponse(
                                 request.getSlotNumber(),
                                 removedCar.getLicensePlate(),
-                                viewData
+                                toParkingLotDelta(parkingLot, List.of(request.getSlotNumber()))
                         );
                     }
             );
 
             if (updateResult.isCommitted()) {
                 UnparkCarResponse response = updateResult.getData();
+                onParkingLotChanged(response.getDelta());
 
                 return OperationResult.success(
                         "Car " + response.getLicensePlate() + " unparked from slot " + response.getSlotNumber(),
@@ -184,7 +404,11 @@ public final class ParkingService {
     }
 
     public OperationResult<BatchUnparkResponse> batchUnpark(BatchUnparkRequest request) {
-        OperationResult<Void> validationResult = requestValidator.validateBatchUnparkRequest(request);
+        return tracer.trace("service.batchUnpark", () -> performBatchUnpark(request));
+    }
+
+    private OperationResult<BatchUnparkResponse> performBatchUnpark(BatchUnparkRequest request) {
+        OperationResult<Void> validationResult = validate(() -> requestValidator.validateBatchUnparkRequest(request));
 
         if (validationResult.isFailure()) {
             return OperationResult.failure(
@@ -199,6 +423,7 @@ public final class ParkingService {
                     parkingLotSize,
                     parkingLot -> {
                         List<String> unparkedPlates = new ArrayList<>();
+                        List<Integer> changedSlotNumbers = new ArrayList<>();
 
                         for (Integer slotNumber : request.getSlotNumbers()) {
                             Optional<ParkingSlot> optionalSlot = parkingLot.getSlot(slotNumber);
@@ -209,24 +434,24 @@ public final class ParkingService {
 
                             Car removedCar = parkingLot.unpark(slotNumber);
                             unparkedPlates.add(removedCar.getLicensePlate());
+                            changedSlotNumbers.add(slotNumber);
                         }
 
                         if (unparkedPlates.isEmpty()) {
                             throw new IllegalStateException("No occupied slots were selected");
                         }
 
-                        ParkingLotViewData viewData = toParkingLotViewData(parkingLot);
-
                         return new BatchUnparkResponse(
                                 unparkedPlates.size(),
                                 unparkedPlates,
-                                viewData
+                                toParkingLotDelta(parkingLot, changedSlotNumbers)
                         );
                     }
             );
 
             if (updateResult.isCommitted()) {
                 BatchUnparkResponse response = updateResult.getData();
+                onParkingLotChanged(response.getDelta());
 
                 return OperationResult.success(
                         "Unparked " + response.getUnparkedCount() + " car(s)",
@@ -261,7 +486,61 @@ public final class ParkingService {
         }
     }
 
+    public OperationResult<ParkingLotDelta> applyExternalChanges(ExternalSlotChanges changes) {
+        return tracer.trace("service.applyExternalChanges", () -> performApplyExternalChanges(changes));
+    }
+
+    private OperationResult<ParkingLotDelta> performApplyExternalChanges(ExternalSlotChanges changes) {
+        if (changes == null || changes.getChangedSlots().isEmpty()) {
+            return OperationResult.failure(
+                    "NO_EXTERNAL_CHANGES",
+                    "No external slot changes to apply",
+                    "Reload the parking data."
+            );
+        }
+
+        if (changes.getSize() != parkingLotSize) {
+            return OperationResult.failure(
+                    "EXTERNAL_CHANGE_SIZE_MISMATCH",
+                    "The parking data file no longer matches the configured parking lot size",
+                    "Check the parking data file and restart the application."
+            );
+        }
+
+        for (SlotViewData slot : changes.getChangedSlots()) {
+            if (slot.getSlotNumber() > parkingLotSize) {
+                return OperationResult.failure(
+                        "INVALID_SLOT_NUMBER",
+                        "External change contains an invalid slot number",
+                        "Reload the parking data."
+                );
+            }
+        }
+
+        long version = viewVersion.incrementAndGet();
+        ParkingLotDelta delta = new ParkingLotDelta(
+                version - 1,
+                version,
+                parkingLotSize,
+                changes.getOccupiedSlots(),
+                parkingLotSize - changes.getOccupiedSlots(),
+                changes.getChangedSlots(),
+                changes.getReplacedSlots()
+        );
+
+        onParkingLotChanged(delta);
+
+        return OperationResult.success(
+                "Parking data changed outside the application. Updated " + delta.getChangedSlots().size() + " slot(s)",
+                delta
+        );
+    }
+
     public OperationResult<FindCarResponse> findCar(FindCarRequest request) {
+        return tracer.trace("service.findCar", () -> performFindCar(request));
+    }
+
+    private OperationResult<FindCarResponse> performFindCar(FindCarRequest request) {
         if (request == null || request.getLicensePlate().isEmpty()) {
             return OperationResult.failure(
                     "INVALID_SEARCH_REQUEST",
@@ -304,6 +583,298 @@ public final class ParkingService {
         }
     }
 
+    private BatchParkResponse parkBatch(
+            ParkingLot parkingLot,
+            boolean allOrNothing,
+            LicensePlate[] batchPlates,
+            BatchParkResult[] rejectedPlates,
+            int distinctPlateCount
+    ) {
+        List<BatchParkResult> results = new ArrayList<>(batchPlates.length);
+        List<Integer> parkedSlotNumbers = new ArrayList<>();
+        OccupancySnapshot occupancy = new OccupancySnapshot(parkingLot);
+
+        if (allOrNothing) {
+            occupancy.requireAvailableSlots(distinctPlateCount);
+        }
+
+        for (int index = 0; index < batchPlates.length; index++) {
+            LicensePlate licensePlate = batchPlates[index];
+
+            if (licensePlate == null) {
+                results.add(rejectedPlates[index]);
+                continue;
+            }
+
+            try {
+                ParkingSlot slot = occupancy.park(new Car(licensePlate));
+
+                parkedSlotNumbers.add(slot.getNumber());
+                results.add(BatchParkResult.parked(licensePlate.getValue(), slot.getNumber()));
+            } catch (DomainException exception) {
+                if (allOrNothing) {
+                    throw new DomainException(batchParkRejectionMessage(licensePlate.getValue(), exception.getMessage()));
+                }
+
+                results.add(BatchParkResult.rejected(licensePlate.getValue(), "PARKING_DOMAIN_ERROR", exception.getMessage()));
+            }
+        }
+
+        ParkingLotDelta delta = parkedSlotNumbers.isEmpty()
+                ? null
+                : toParkingLotDelta(parkingLot, parkedSlotNumbers);
+
+        return new BatchParkResponse(results, delta);
+    }
+
+    private OperationResult<BatchParkResponse> batchParkRejected(String licensePlate, String message) {
+        return OperationResult.failure(
+                "BATCH_PARK_REJECTED",
+                batchParkRejectionMessage(licensePlate, message),
+                "Remove the rejected license plates or free up slots and try again."
+        );
+    }
+
+    private String batchParkRejectionMessage(String licensePlate, String message) {
+        return "Batch park rejected because " + licensePlate + " could not be parked: " + message;
+    }
+
+    public OperationResult<FindCarsResponse> findCars(Collection<String> licensePlates) {
+        return tracer.trace("service.findCars", () -> performFindCars(licensePlates));
+    }
+
+    private OperationResult<FindCarsResponse> performFindCars(Collection<String> licensePlates) {
+        if (licensePlates == null || licensePlates.isEmpty()) {
+            return OperationResult.failure(
+                    "INVALID_SEARCH_REQUEST",
+                    "At least one license plate is required",
+                    "Provide the license plates to look up and try again."
+            );
+        }
+
+        try {
+            List<String> requestedPlates = new ArrayList<>(licensePlates);
+            LicensePlate[] parsedPlates = new LicensePlate[requestedPlates.size()];
+            String[] validationErrors = new String[requestedPlates.size()];
+
+            IntStream indexes = IntStream.range(0, requestedPlates.size());
+
+            if (requestedPlates.size() >= PARALLEL_LOOKUP_THRESHOLD) {
+                indexes = indexes.parallel();
+            }
+
+            indexes.forEach(index -> {
+                try {
+                    parsedPlates[index] = LicensePlate.of(requestedPlates.get(index));
+                } catch (InvalidLicensePlateException exception) {
+                    validationErrors[index] = exception.getMessage();
+                }
+            });
+
+            ParkingLot parkingLot = parkingLotRepository.load(parkingLotSize);
+            Map<LicensePlate, Integer> slotsByPlate = new HashMap<>();
+
+            for (ParkingSlot slot : parkingLot.getSlots()) {
+                if (slot.isOccupied()) {
+                    slotsByPlate.put(slot.getCar().getLicensePlateValue(), slot.getNumber());
+                }
+            }
+
+            List<PlateLookupResult> results = new ArrayList<>(requestedPlates.size());
+
+            for (int index = 0; index < requestedPlates.size(); index++) {
+                String requestedPlate = requestedPlates.get(index);
+                LicensePlate licensePlate = parsedPlates[index];
+
+                if (licensePlate == null) {
+                    results.add(PlateLookupResult.invalid(requestedPlate, validationErrors[index]));
+                    continue;
+                }
+
+                Integer slotNumber = slotsByPlate.get(licensePlate);
+
+                results.add(slotNumber == null
+                        ? PlateLookupResult.notFound(requestedPlate, licensePlate.getValue())
+                        : PlateLookupResult.found(requestedPlate, licensePlate.getValue(), slotNumber));
+            }
+
+            FindCarsResponse response = new FindCarsResponse(results);
+
+            return OperationResult.success(
+                    "Found " + response.getFoundCount() + " of " + results.size() + " car(s)",
+                    response
+            );
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "FIND_CARS_FAILED",
+                    "Bulk search failed because an unexpected error occurred",
+                    "Try again. If the issue continues, restart the application."
+            );
+        }
+    }
+
+    public OperationResult<SearchCarsResponse> searchCars(String query, int limit) {
+        return tracer.trace("service.searchCars", () -> performSearchCars(query, limit));
+    }
+
+    private OperationResult<SearchCarsResponse> performSearchCars(String query, int limit) {
+        String searchKey = PlateSearchIndex.toSearchKey(query);
+
+        if (searchKey.isEmpty()) {
+            return OperationResult.failure(
+                    "INVALID_SEARCH_REQUEST",
+                    "Search text is required",
+                    "Enter all or part of a license plate and try again."
+            );
+        }
+
+        if (limit <= 0) {
+            return OperationResult.failure(
+                    "INVALID_SEARCH_REQUEST",
+                    "Search limit must be greater than zero",
+                    "Request at least one search result and try again."
+            );
+        }
+
+        if (limit > MAX_SEARCH_RESULTS) {
+            return OperationResult.failure(
+                    "INVALID_SEARCH_REQUEST",
+                    "Search limit cannot be greater than " + MAX_SEARCH_RESULTS,
+                    "Request at most " + MAX_SEARCH_RESULTS + " search results and try again."
+            );
+        }
+
+        try {
+            refreshSearchIndex();
+
+            List<PlateSearchResult> results;
+
+            synchronized (searchIndexLock) {
+                results = searchIndex.search(searchKey, limit);
+            }
+
+            String trimmedQuery = query.trim();
+            String message = results.isEmpty()
+                    ? "No parked cars match " + trimmedQuery
+                    : "Found " + results.size() + " match(es) for " + trimmedQuery;
+
+            return OperationResult.success(message, new SearchCarsResponse(trimmedQuery, results));
+        } catch (Exception exception) {
+            return OperationResult.failure(
+                    "SEARCH_CARS_FAILED",
+                    "Search failed because an unexpected error occurred",
+                    "Try again. If the issue continues, restart the application."
+            );
+        }
+    }
+
+    private void refreshSearchIndex() {
+        long repositoryVersion = parkingLotRepository.getVersion();
+
+        synchronized (searchIndexLock) {
+            if (searchIndexBuilt && repositoryVersion == indexedRepositoryVersion) {
+                return;
+            }
+        }
+
+        long version = viewVersion.get();
+        ParkingLot parkingLot = parkingLotRepository.load(parkingLotSize);
+        PlateSearchIndex rebuiltIndex = new PlateSearchIndex();
+
+        rebuiltIndex.rebuild(parkingLot);
+
+        synchronized (searchIndexLock) {
+            if (searchIndexBuilt && repositoryVersion <= indexedRepositoryVersion) {
+                return;
+            }
+
+            searchIndex = rebuiltIndex;
+            searchIndexBuilt = true;
+            indexedViewVersion = version;
+            indexedRepositoryVersion = repositoryVersion;
+        }
+    }
+
+    private void onParkingLotChanged(ParkingLotDelta delta) {
+        updateSearchIndex(delta);
+        publishParkingEvents(delta);
+    }
+
+    private void publishParkingEvents(ParkingLotDelta delta) {
+        if (delta == null || eventListeners.isEmpty()) {
+            return;
+        }
+
+        long occurredAtMillis = System.currentTimeMillis();
+
+        for (SlotViewData slot : delta.getChangedSlots()) {
+            if (slot.isOccupied() && delta.isReplaced(slot.getSlotNumber())) {
+                notifyParkingEventListeners(new ParkingEvent(
+                        ParkingEvent.Type.UNPARKED,
+                        slot.getSlotNumber(),
+                        delta.getOccupiedSlots() - 1,
+                        delta.getSize(),
+                        delta.getVersion(),
+                        occurredAtMillis
+                ));
+            }
+
+            notifyParkingEventListeners(new ParkingEvent(
+                    slot.isOccupied() ? ParkingEvent.Type.PARKED : ParkingEvent.Type.UNPARKED,
+                    slot.getSlotNumber(),
+                    delta.getOccupiedSlots(),
+                    delta.getSize(),
+                    delta.getVersion(),
+                    occurredAtMillis
+            ));
+        }
+    }
+
+    private void notifyParkingEventListeners(ParkingEvent event) {
+        for (ParkingEventListener listener : eventListeners) {
+            try {
+                listener.onParkingEvent(event);
+            } catch (RuntimeException exception) {
+                errorReporter.accept("Parking event listener failed", exception);
+            }
+        }
+    }
+
+    private void updateSearchIndex(ParkingLotDelta delta) {
+        if (delta == null) {
+            return;
+        }
+
+        long repositoryVersion = parkingLotRepository.getVersion();
+
+        synchronized (searchIndexLock) {
+            if (!searchIndexBuilt || delta.getVersion() <= indexedViewVersion) {
+                return;
+            }
+
+            if (delta.getBaseVersion() != indexedViewVersion) {
+                searchIndexBuilt = false;
+                return;
+            }
+
+            for (SlotViewData slot : delta.getChangedSlots()) {
+                if (slot.isOccupied()) {
+                    searchIndex.put(slot.getSlotNumber(), slot.getLicensePlate());
+                } else {
+                    searchIndex.removeSlot(slot.getSlotNumber());
+                }
+            }
+
+            indexedViewVersion = delta.getVersion();
+            searchIndexBuilt = repositoryVersion == indexedRepositoryVersion + 1;
+            indexedRepositoryVersion = repositoryVersion;
+        }
+    }
+
+    private OperationResult<Void> validate(Supplier<OperationResult<Void>> validation) {
+        return tracer.trace("service.validate", validation);
+    }
+
     private <T> OperationResult<T> parkingCommitFailure(
             ParkingLotUpdateResult<?> updateResult,
             String conflictCode,
@@ -325,28 +896,102 @@ public final class ParkingService {
         );
     }
 
-    private ParkingLotViewData toParkingLotViewData(ParkingLot parkingLot) {
+    private ParkingLotViewData toParkingLotViewData(ParkingLot parkingLot, long version) {
         if (parkingLot == null) {
             throw new IllegalArgumentException("Parking lot cannot be null");
         }
 
-        List<SlotViewData> slotViewData = new ArrayList<>();
+        List<SlotViewData> slotViewData = new ArrayList<>(parkingLot.getSize());
+        int occupiedSlots = 0;
 
         for (ParkingSlot slot : parkingLot.getSlots()) {
-            String licensePlate = slot.isOccupied() ? slot.getCar().getLicensePlate() : "";
+            if (slot.isOccupied()) {
+                occupiedSlots++;
+            }
 
-            slotViewData.add(new SlotViewData(
-                    slot.getNumber(),
-                    slot.getStatus(),
-                    licensePlate
-            ));
+            slotViewData.add(toSlotViewData(slot));
         }
 
         return new ParkingLotViewData(
                 parkingLot.getSize(),
-                parkingLot.getOccupiedSlotCount(),
-                parkingLot.getAvailableSlotCount(),
-                slotViewData
+                occupiedSlots,
+                parkingLot.getSize() - occupiedSlots,
+                slotViewData,
+                version
+        );
+    }
+
+    private ParkingLotDelta toParkingLotDelta(ParkingLot parkingLot, Collection<Integer> changedSlotNumbers) {
+        List<SlotViewData> changedSlots = new ArrayList<>(changedSlotNumbers.size());
+
+        for (Integer slotNumber : changedSlotNumbers) {
+            changedSlots.add(toSlotViewData(parkingLot.getSlotOrThrow(slotNumber)));
+        }
+
+        int occupiedSlots = parkingLot.getOccupiedSlotCount();
+        long version = viewVersion.incrementAndGet();
+
+        return new ParkingLotDelta(
+                version - 1,
+                version,
+                parkingLot.getSize(),
+                occupiedSlots,
+                parkingLot.getSize() - occupiedSlots,
+                changedSlots
+        );
+    }
+
+    private SlotViewData toSlotViewData(ParkingSlot slot) {
+        String licensePlate = slot.isOccupied() ? slot.getCar().getLicensePlate() : "";
+
+        return new SlotViewData(
+                slot.getNumber(),
+                slot.getStatus(),
+                licensePlate
         );
     }
-}
\ No newline at end of file
+
+    private static final class OccupancySnapshot {
+        private final Set<LicensePlate> parkedPlates;
+        private final Deque<ParkingSlot> availableSlots;
+
+        private OccupancySnapshot(ParkingLot parkingLot) {
+            this.parkedPlates = new HashSet<>();
+            this.availableSlots = new ArrayDeque<>();
+
+            for (ParkingSlot slot : parkingLot.getSlots()) {
+                if (slot.isOccupied()) {
+                    parkedPlates.add(slot.getCar().getLicensePlateValue());
+                } else {
+                    availableSlots.addLast(slot);
+                }
+            }
+        }
+
+        private void requireAvailableSlots(int count) {
+            if (count > availableSlots.size()) {
+                throw new ParkingLotFullException(
+                        "Parking lot has " + availableSlots.size() + " free slot(s) but " + count + " car(s) were submitted"
+                );
+            }
+        }
+
+        private ParkingSlot park(Car car) {
+            LicensePlate licensePlate = car.getLicensePlateValue();
+
+            if (parkedPlates.contains(licensePlate)) {
+                throw new DuplicateParkedCarException(licensePlate);
+            }
+
+            ParkingSlot slot = availableSlots.pollFirst();
+
+            if (slot == null) {
+                throw new ParkingLotFullException();
+            }
+
+            slot.park(car);
+            parkedPlates.add(licensePlate);
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package application.services;
+
+import application.dto.PlateSearchResult;
+import domain.entities.ParkingLot;
+import domain.entities.ParkingSlot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public final class PlateSearchIndex {
+    private final TrieNode root;
+    private final Map<String, IndexedPlate> platesByKey;
+    private final Map<Integer, String> keysBySlot;
+    private final Map<String, Set<String>> keysByDeletion;
+
+    public PlateSearchIndex() {
+        this.root = new TrieNode();
+        this.platesByKey = new HashMap<>();
+        this.keysBySlot = new HashMap<>();
+        this.keysByDeletion = new HashMap<>();
+    }
+
+    public static String toSearchKey(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            if (!Character.isWhitespace(character)) {
+                builder.append(Character.toUpperCase(character));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    public void rebuild(ParkingLot parkingLot) {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Parking lot cannot be null");
+        }
+
+        clear();
+
+        for (ParkingSlot slot : parkingLot.getSlots()) {
+            if (slot.isOccupied()) {
+                put(slot.getNumber(), slot.getCar().getLicensePlate());
+            }
+        }
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.key = null;
+        platesByKey.clear();
+        keysBySlot.clear();
+        keysByDeletion.clear();
+    }
+
+    public void put(int slotNumber, String licensePlate) {
+        removeSlot(slotNumber);
+
+        String key = toSearchKey(licensePlate);
+
+        if (key.isEmpty()) {
+            return;
+        }
+
+        IndexedPlate existingPlate = platesByKey.get(key);
+
+        if (existingPlate != null) {
+            removeSlot(existingPlate.slotNumber);
+        }
+
+        keysBySlot.put(slotNumber, key);
+        platesByKey.put(key, new IndexedPlate(licensePlate.trim(), slotNumber));
+        insertIntoTrie(key);
+
+        for (String deletion : deletionsOf(key)) {
+            keysByDeletion.computeIfAbsent(deletion, ignored -> new HashSet<>()).add(key);
+        }
+    }
+
+    public void removeSlot(int slotNumber) {
+        String key = keysBySlot.remove(slotNumber);
+
+        if (key != null) {
+            removeKey(key);
+        }
+    }
+
+    public int size() {
+        return platesByKey.size();
+    }
+
+    public List<PlateSearchResult> search(String query, int limit) {
+        String key = toSearchKey(query);
+        List<PlateSearchResult> results = new ArrayList<>();
+
+        if (key.isEmpty() || limit <= 0) {
+            return results;
+        }
+
+        Set<String> matchedKeys = new LinkedHashSet<>();
+        IndexedPlate exactMatch = platesByKey.get(key);
+
+        if (exactMatch != null) {
+            matchedKeys.add(key);
+            results.add(exactMatch.toResult(PlateSearchResult.MatchType.EXACT));
+        }
+
+        collectPrefixMatches(key, limit, matchedKeys, results);
+        collectFuzzyMatches(key, limit, matchedKeys, results);
+
+        return results;
+    }
+
+    private void collectPrefixMatches(
+            String prefix,
+            int limit,
+            Set<String> matchedKeys,
+            List<PlateSearchResult> results
+    ) {
+        TrieNode node = root;
+
+        for (int index = 0; index < prefix.length() && node != null; index++) {
+            node = node.children.get(prefix.charAt(index));
+        }
+
+        if (node == null) {
+            return;
+        }
+
+        Deque<TrieNode> queue = new ArrayDeque<>();
+        queue.addLast(node);
+
+        while (!queue.isEmpty() && results.size() < limit) {
+            TrieNode current = queue.pollFirst();
+
+            if (current.key != null && matchedKeys.add(current.key)) {
+                results.add(platesByKey.get(current.key).toResult(PlateSearchResult.MatchType.PREFIX));
+            }
+
+            queue.addAll(current.children.values());
+        }
+    }
+
+    private void collectFuzzyMatches(
+            String key,
+            int limit,
+            Set<String> matchedKeys,
+            List<PlateSearchResult> results
+    ) {
+        if (results.size() >= limit) {
+            return;
+        }
+
+        Set<String> candidates = new TreeSet<>();
+
+        for (String deletion : deletionsOf(key)) {
+            Set<String> keys = keysByDeletion.get(deletion);
+
+            if (keys != null) {
+                candidates.addAll(keys);
+            }
+        }
+
+        for (String candidate : candidates) {
+            if (results.size() >= limit) {
+                return;
+            }
+
+            if (!matchedKeys.contains(candidate) && isWithinOneEdit(key, candidate)) {
+                matchedKeys.add(candidate);
+                results.add(platesByKey.get(candidate).toResult(PlateSearchResult.MatchType.FUZZY));
+            }
+        }
+    }
+
+    private void removeKey(String key) {
+        IndexedPlate removedPlate = platesByKey.remove(key);
+
+        if (removedPlate == null) {
+            return;
+        }
+
+        removeFromTrie(key);
+
+        for (String deletion : deletionsOf(key)) {
+            Set<String> keys = keysByDeletion.get(deletion);
+
+            if (keys != null) {
+                keys.remove(key);
+
+                if (keys.isEmpty()) {
+                    keysByDeletion.remove(deletion);
+                }
+            }
+        }
+    }
+
+    private void insertIntoTrie(String key) {
+        TrieNode node = root;
+
+        for (int index = 0; index < key.length(); index++) {
+            node = node.children.computeIfAbsent(key.charAt(index), ignored -> new TrieNode());
+        }
+
+        node.key = key;
+    }
+
+    private void removeFromTrie(String key) {
+        List<TrieNode> path = new ArrayList<>(key.length() + 1);
+        TrieNode node = root;
+        path.add(node);
+
+        for (int index = 0; index < key.length(); index++) {
+            node = node.children.get(key.charAt(index));
+
+            if (node == null) {
+                return;
+            }
+
+            path.add(node);
+        }
+
+        node.key = null;
+
+        for (int index = key.length(); index > 0; index--) {
+            TrieNode current = path.get(index);
+
+            if (current.key != null || !current.children.isEmpty()) {
+                return;
+            }
+
+            path.get(index - 1).children.remove(key.charAt(index - 1));
+        }
+    }
+
+    private static Set<String> deletionsOf(String key) {
+        Set<String> deletions = new HashSet<>(key.length() + 1);
+        deletions.add(key);
+
+        for (int index = 0; index < key.length(); index++) {
+            deletions.add(key.substring(0, index) + key.substring(index + 1));
+        }
+
+        return deletions;
+    }
+
+    private static boolean isWithinOneEdit(String first, String second) {
+        int lengthDifference = first.length() - second.length();
+
+        if (Math.abs(lengthDifference) > 1) {
+            return false;
+        }
+
+        if (lengthDifference == 0) {
+            int firstMismatch = -1;
+            int mismatches = 0;
+
+            for (int index = 0; index < first.length(); index++) {
+                if (first.charAt(index) != second.charAt(index)) {
+                    if (firstMismatch < 0) {
+                        firstMismatch = index;
+                    }
+
+                    mismatches++;
+                }
+            }
+
+            if (mismatches <= 1) {
+                return true;
+            }
+
+            return mismatches == 2
+                    && firstMismatch + 1 < first.length()
+                    && first.charAt(firstMismatch) == second.charAt(firstMismatch + 1)
+                    && first.charAt(firstMismatch + 1) == second.charAt(firstMismatch);
+        }
+
+        String longer = lengthDifference > 0 ? first : second;
+        String shorter = lengthDifference > 0 ? second : first;
+        int longerIndex = 0;
+        int shorterIndex = 0;
+        boolean skipped = false;
+
+        while (longerIndex < longer.length() && shorterIndex < shorter.length()) {
+            if (longer.charAt(longerIndex) == shorter.charAt(shorterIndex)) {
+                longerIndex++;
+                shorterIndex++;
+            } else if (skipped) {
+                return false;
+            } else {
+                skipped = true;
+                longerIndex++;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class TrieNode {
+        private final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        private String key;
+    }
+
+    private static final class IndexedPlate {
+        private final String licensePlate;
+        private final int slotNumber;
+
+        private IndexedPlate(String licensePlate, int slotNumber) {
+            this.licensePlate = licensePlate;
+            this.slotNumber = slotNumber;
+        }
+
+        private PlateSearchResult toResult(PlateSearchResult.MatchType matchType) {
+            return new PlateSearchResult(licensePlate, slotNumber, matchType);
+        }
+    }
+}
@@ -5,11 +5,24 @@ import application.dto.OperationResult;
 import application.repositories.ParkingLotRepository;
 import application.repositories.ReportRepository;
 import domain.entities.ParkingLot;
+import domain.entities.ParkingSlot;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class ReportService {
+    private static final long NO_CACHED_VERSION = -1L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     private final ParkingLotRepository parkingLotRepository;
     private final ReportRepository reportRepository;
     private final int parkingLotSize;
+    private final AtomicLong cacheHits;
+    private final AtomicLong cacheMisses;
+
+    private long cachedVersion;
+    private long cachedContentHash;
+    private String cachedFilePath;
 
     public ReportService(
             ParkingLotRepository parkingLotRepository,
@@ -31,14 +44,34 @@ public final class ReportService {
         this.parkingLotRepository = parkingLotRepository;
         this.reportRepository = reportRepository;
         this.parkingLotSize = parkingLotSize;
+        this.cacheHits = new AtomicLong();
+        this.cacheMisses = new AtomicLong();
+
+        invalidateCache();
     }
 
-    public OperationResult<GenerateReportResponse> generateReport() {
+    public synchronized OperationResult<GenerateReportResponse> generateReport() {
         try {
+            long version = parkingLotRepository.getVersion();
+
+            if (version == cachedVersion && isCachedReportAvailable()) {
+                return cachedReport();
+            }
+
             ParkingLot parkingLot = parkingLotRepository.load(parkingLotSize);
+            long contentHash = computeContentHash(parkingLot);
+
+            if (contentHash == cachedContentHash && isCachedReportAvailable()) {
+                cachedVersion = version;
+                return cachedReport();
+            }
+
+            cacheMisses.incrementAndGet();
             String filePath = reportRepository.generate(parkingLot);
 
             if (filePath == null || filePath.trim().isEmpty()) {
+                invalidateCache();
+
                 return OperationResult.failure(
                         "REPORT_GENERATION_FAILED",
                         "Report generation failed",
@@ -46,11 +79,17 @@ public final class ReportService {
                 );
             }
 
+            cachedVersion = version;
+            cachedContentHash = contentHash;
+            cachedFilePath = filePath.trim();
+
             return OperationResult.success(
-                    "Report generated successfully at " + filePath,
-                    new GenerateReportResponse(filePath)
+                    "Report generated successfully at " + cachedFilePath,
+                    new GenerateReportResponse(cachedFilePath)
             );
         } catch (Exception exception) {
+            invalidateCache();
+
             return OperationResult.failure(
                     "REPORT_GENERATION_ERROR",
                     "Report generation failed because an unexpected error occurred",
@@ -58,4 +97,58 @@ public final class ReportService {
             );
         }
     }
-}
\ No newline at end of file
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    private OperationResult<GenerateReportResponse> cachedReport() {
+        cacheHits.incrementAndGet();
+
+        return OperationResult.success(
+                "Report is up to date at " + cachedFilePath,
+                new GenerateReportResponse(cachedFilePath)
+        );
+    }
+
+    private boolean isCachedReportAvailable() {
+        return !cachedFilePath.isEmpty() && reportRepository.exists(cachedFilePath);
+    }
+
+    private void invalidateCache() {
+        cachedVersion = NO_CACHED_VERSION;
+        cachedContentHash = 0L;
+        cachedFilePath = "";
+    }
+
+    private long computeContentHash(ParkingLot parkingLot) {
+        long hash = FNV_OFFSET_BASIS;
+
+        hash = mix(hash, parkingLot.getSize());
+
+        for (ParkingSlot slot : parkingLot.getSlots()) {
+            if (slot.isEmpty()) {
+                continue;
+            }
+
+            String licensePlate = slot.getCar().getLicensePlate();
+
+            hash = mix(hash, slot.getNumber());
+            hash = mix(hash, licensePlate.length());
+
+            for (int index = 0; index < licensePlate.length(); index++) {
+                hash = mix(hash, licensePlate.charAt(index));
+            }
+        }
+
+        return hash;
+    }
+
+    private long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
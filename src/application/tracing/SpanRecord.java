@@ -0,0 +1,57 @@
+package application.tracing;
+
+public final class SpanRecord {
+    private final long id;
+    private final long parentId;
+    private final String name;
+    private final long threadId;
+    private final String threadName;
+    private final long startMicros;
+    private final long durationMicros;
+
+    SpanRecord(
+            long id,
+            long parentId,
+            String name,
+            long threadId,
+            String threadName,
+            long startMicros,
+            long durationMicros
+    ) {
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.threadId = threadId;
+        this.threadName = threadName;
+        this.startMicros = startMicros;
+        this.durationMicros = durationMicros;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getParentId() {
+        return parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public long getStartMicros() {
+        return startMicros;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+}
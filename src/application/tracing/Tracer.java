@@ -0,0 +1,185 @@
+package application.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+public final class Tracer {
+    private static final Tracer DISABLED = new Tracer();
+    private static final Span NOOP_SPAN = new Span(null, null, 0L, 0L, "", 0L);
+
+    private final boolean enabled;
+    private final int capacity;
+    private final AtomicReferenceArray<SpanRecord> buffer;
+    private final AtomicLong nextSpanId;
+    private final AtomicLong writeSequence;
+    private final long originNanos;
+    private final ThreadLocal<Span> currentSpan;
+
+    public Tracer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Trace buffer capacity must be greater than zero");
+        }
+
+        this.enabled = true;
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.nextSpanId = new AtomicLong();
+        this.writeSequence = new AtomicLong();
+        this.originNanos = System.nanoTime();
+        this.currentSpan = new ThreadLocal<>();
+    }
+
+    private Tracer() {
+        this.enabled = false;
+        this.capacity = 0;
+        this.buffer = null;
+        this.nextSpanId = null;
+        this.writeSequence = null;
+        this.originNanos = 0L;
+        this.currentSpan = null;
+    }
+
+    public static Tracer disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Span startSpan(String name) {
+        if (!enabled) {
+            return NOOP_SPAN;
+        }
+
+        Span parent = currentSpan.get();
+        Span span = new Span(
+                this,
+                parent,
+                nextSpanId.incrementAndGet(),
+                parent == null ? 0L : parent.id,
+                name == null ? "" : name,
+                System.nanoTime()
+        );
+
+        currentSpan.set(span);
+        return span;
+    }
+
+    public <T> T trace(String name, Supplier<T> body) {
+        Span span = startSpan(name);
+
+        try {
+            return body.get();
+        } finally {
+            span.close();
+        }
+    }
+
+    public void trace(String name, Runnable body) {
+        Span span = startSpan(name);
+
+        try {
+            body.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    public <E extends Exception> void traceChecked(String name, TracedAction<E> body) throws E {
+        Span span = startSpan(name);
+
+        try {
+            body.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    public List<SpanRecord> snapshot() {
+        List<SpanRecord> records = new ArrayList<>();
+
+        if (!enabled) {
+            return records;
+        }
+
+        long end = writeSequence.get();
+        long start = Math.max(0L, end - capacity);
+
+        for (long sequence = start; sequence < end; sequence++) {
+            SpanRecord record = buffer.get((int) (sequence % capacity));
+
+            if (record != null) {
+                records.add(record);
+            }
+        }
+
+        records.sort(Comparator.comparingLong(SpanRecord::getStartMicros));
+        return records;
+    }
+
+    private void finish(Span span) {
+        long endNanos = System.nanoTime();
+
+        if (currentSpan.get() == span) {
+            if (span.parent == null) {
+                currentSpan.remove();
+            } else {
+                currentSpan.set(span.parent);
+            }
+        }
+
+        Thread thread = Thread.currentThread();
+        SpanRecord record = new SpanRecord(
+                span.id,
+                span.parentId,
+                span.name,
+                thread.getId(),
+                thread.getName(),
+                (span.startNanos - originNanos) / 1_000L,
+                (endNanos - span.startNanos) / 1_000L
+        );
+
+        long sequence = writeSequence.getAndIncrement();
+        buffer.set((int) (sequence % capacity), record);
+    }
+
+    public static final class Span implements AutoCloseable {
+        private final Tracer tracer;
+        private final Span parent;
+        private final long id;
+        private final long parentId;
+        private final String name;
+        private final long startNanos;
+
+        private boolean closed;
+
+        private Span(Tracer tracer, Span parent, long id, long parentId, String name, long startNanos) {
+            this.tracer = tracer;
+            this.parent = parent;
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (tracer == null || closed) {
+                return;
+            }
+
+            closed = true;
+            tracer.finish(this);
+        }
+    }
+
+    @FunctionalInterface
+    public interface TracedAction<E extends Exception> {
+        void run() throws E;
+    }
+}
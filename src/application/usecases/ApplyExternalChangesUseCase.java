@@ -0,0 +1,33 @@
+package application.usecases;
+
+import application.dto.ExternalSlotChanges;
+import application.dto.OperationResult;
+import application.dto.ParkingLotDelta;
+import application.metrics.MetricsRegistry;
+import application.services.ParkingService;
+
+public final class ApplyExternalChangesUseCase {
+    private final ParkingService parkingService;
+    private final MetricsRegistry metrics;
+
+    public ApplyExternalChangesUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public ApplyExternalChangesUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.metrics = metrics;
+    }
+
+    public OperationResult<ParkingLotDelta> execute(ExternalSlotChanges changes) {
+        return metrics.time("usecase.applyExternalChanges", () -> parkingService.applyExternalChanges(changes));
+    }
+}
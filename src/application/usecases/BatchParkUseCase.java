@@ -0,0 +1,33 @@
+package application.usecases;
+
+import application.dto.BatchParkRequest;
+import application.dto.BatchParkResponse;
+import application.dto.OperationResult;
+import application.metrics.MetricsRegistry;
+import application.services.ParkingService;
+
+public final class BatchParkUseCase {
+    private final ParkingService parkingService;
+    private final MetricsRegistry metrics;
+
+    public BatchParkUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public BatchParkUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.metrics = metrics;
+    }
+
+    public OperationResult<BatchParkResponse> execute(BatchParkRequest request) {
+        return metrics.time("usecase.batchPark", () -> parkingService.batchPark(request));
+    }
+}
@@ -3,20 +3,39 @@ package application.usecases;
 import application.dto.FindCarRequest;
 import application.dto.FindCarResponse;
 import application.dto.OperationResult;
+import application.metrics.MetricsRegistry;
+import application.services.AdmissionController;
+import application.services.AdmittedParkingService;
 import application.services.ParkingService;
 
 public final class FindCarUseCase {
-    private final ParkingService parkingService;
+    private final AdmittedParkingService parkingService;
+    private final String clientId;
+    private final MetricsRegistry metrics;
 
     public FindCarUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public FindCarUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        this(new AdmittedParkingService(parkingService), AdmissionController.ANONYMOUS_CLIENT_ID, metrics);
+    }
+
+    public FindCarUseCase(AdmittedParkingService parkingService, String clientId, MetricsRegistry metrics) {
         if (parkingService == null) {
             throw new IllegalArgumentException("Parking service cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
         this.parkingService = parkingService;
+        this.clientId = clientId;
+        this.metrics = metrics;
     }
 
     public OperationResult<FindCarResponse> execute(FindCarRequest request) {
-        return parkingService.findCar(request);
+        return metrics.time("usecase.findCar", () -> parkingService.findCar(clientId, request));
     }
 }
\ No newline at end of file
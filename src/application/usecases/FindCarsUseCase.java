@@ -0,0 +1,34 @@
+package application.usecases;
+
+import application.dto.FindCarsResponse;
+import application.dto.OperationResult;
+import application.metrics.MetricsRegistry;
+import application.services.ParkingService;
+
+import java.util.Collection;
+
+public final class FindCarsUseCase {
+    private final ParkingService parkingService;
+    private final MetricsRegistry metrics;
+
+    public FindCarsUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public FindCarsUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.metrics = metrics;
+    }
+
+    public OperationResult<FindCarsResponse> execute(Collection<String> licensePlates) {
+        return metrics.time("usecase.findCars", () -> parkingService.findCars(licensePlates));
+    }
+}
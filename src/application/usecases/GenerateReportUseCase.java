@@ -2,20 +2,31 @@ package application.usecases;
 
 import application.dto.GenerateReportResponse;
 import application.dto.OperationResult;
+import application.metrics.MetricsRegistry;
 import application.services.ReportService;
 
 public final class GenerateReportUseCase {
     private final ReportService reportService;
+    private final MetricsRegistry metrics;
 
     public GenerateReportUseCase(ReportService reportService) {
+        this(reportService, MetricsRegistry.disabled());
+    }
+
+    public GenerateReportUseCase(ReportService reportService, MetricsRegistry metrics) {
         if (reportService == null) {
             throw new IllegalArgumentException("Report service cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
         this.reportService = reportService;
+        this.metrics = metrics;
     }
 
     public OperationResult<GenerateReportResponse> execute() {
-        return reportService.generateReport();
+        return metrics.time("usecase.generateReport", () -> reportService.generateReport());
     }
 }
\ No newline at end of file
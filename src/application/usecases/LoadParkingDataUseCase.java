@@ -2,20 +2,31 @@ package application.usecases;
 
 import application.dto.LoadParkingDataResponse;
 import application.dto.OperationResult;
+import application.metrics.MetricsRegistry;
 import application.services.ParkingService;
 
 public final class LoadParkingDataUseCase {
     private final ParkingService parkingService;
+    private final MetricsRegistry metrics;
 
     public LoadParkingDataUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public LoadParkingDataUseCase(ParkingService parkingService, MetricsRegistry metrics) {
         if (parkingService == null) {
             throw new IllegalArgumentException("Parking service cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
         this.parkingService = parkingService;
+        this.metrics = metrics;
     }
 
     public OperationResult<LoadParkingDataResponse> execute() {
-        return parkingService.loadParkingData();
+        return metrics.time("usecase.loadParkingData", () -> parkingService.loadParkingData());
     }
 }
\ No newline at end of file
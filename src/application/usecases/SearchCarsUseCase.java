@@ -0,0 +1,40 @@
+package application.usecases;
+
+import application.dto.OperationResult;
+import application.dto.SearchCarsResponse;
+import application.metrics.MetricsRegistry;
+import application.services.AdmissionController;
+import application.services.AdmittedParkingService;
+import application.services.ParkingService;
+
+public final class SearchCarsUseCase {
+    private final AdmittedParkingService parkingService;
+    private final String clientId;
+    private final MetricsRegistry metrics;
+
+    public SearchCarsUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public SearchCarsUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        this(new AdmittedParkingService(parkingService), AdmissionController.ANONYMOUS_CLIENT_ID, metrics);
+    }
+
+    public SearchCarsUseCase(AdmittedParkingService parkingService, String clientId, MetricsRegistry metrics) {
+        if (parkingService == null) {
+            throw new IllegalArgumentException("Parking service cannot be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        this.parkingService = parkingService;
+        this.clientId = clientId;
+        this.metrics = metrics;
+    }
+
+    public OperationResult<SearchCarsResponse> execute(String query, int limit) {
+        return metrics.time("usecase.searchCars", () -> parkingService.searchCars(clientId, query, limit));
+    }
+}
@@ -3,20 +3,39 @@ package application.usecases;
 import application.dto.OperationResult;
 import application.dto.UnparkCarRequest;
 import application.dto.UnparkCarResponse;
+import application.metrics.MetricsRegistry;
+import application.services.AdmissionController;
+import application.services.AdmittedParkingService;
 import application.services.ParkingService;
 
 public final class UnparkCarUseCase {
-    private final ParkingService parkingService;
+    private final AdmittedParkingService parkingService;
+    private final String clientId;
+    private final MetricsRegistry metrics;
 
     public UnparkCarUseCase(ParkingService parkingService) {
+        this(parkingService, MetricsRegistry.disabled());
+    }
+
+    public UnparkCarUseCase(ParkingService parkingService, MetricsRegistry metrics) {
+        this(new AdmittedParkingService(parkingService), AdmissionController.ANONYMOUS_CLIENT_ID, metrics);
+    }
+
+    public UnparkCarUseCase(AdmittedParkingService parkingService, String clientId, MetricsRegistry metrics) {
         if (parkingService == null) {
             throw new IllegalArgumentException("Parking service cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
         this.parkingService = parkingService;
+        this.clientId = clientId;
+        this.metrics = metrics;
     }
 
     public OperationResult<UnparkCarResponse> execute(UnparkCarRequest request) {
-        return parkingService.unparkCar(request);
+        return metrics.time("usecase.unparkCar", () -> parkingService.unparkCar(clientId, request));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package application.validators;
 
+import application.dto.BatchParkRequest;
 import application.dto.BatchUnparkRequest;
 import application.dto.OperationResult;
 import application.dto.ParkCarRequest;
@@ -58,6 +59,32 @@ public final class ParkingRequestValidator {
         return OperationResult.success("Unpark request is valid");
     }
 
+    public OperationResult<Void> validateBatchParkRequest(BatchParkRequest request) {
+        if (request == null || request.getLicensePlates().isEmpty()) {
+            return OperationResult.failure(
+                    "NO_PLATES_PROVIDED",
+                    "No license plates provided for batch park",
+                    "Provide at least one license plate and try again."
+            );
+        }
+
+        return OperationResult.success("Batch park request is valid");
+    }
+
+    public OperationResult<Void> validateLicensePlate(String licensePlate) {
+        OperationResult<?> validationResult = licensePlateValidator.validate(licensePlate);
+
+        if (validationResult.isFailure()) {
+            return OperationResult.failure(
+                    "INVALID_LICENSE_PLATE",
+                    validationResult.getMessage(),
+                    "Enter a valid Uganda license plate and try again."
+            );
+        }
+
+        return OperationResult.success("License plate is valid");
+    }
+
     public OperationResult<Void> validateBatchUnparkRequest(BatchUnparkRequest request) {
         if (request == null || request.getSlotNumbers().isEmpty()) {
             return OperationResult.failure(
@@ -0,0 +1,97 @@
+package infrastructure.concurrency;
+
+import infrastructure.config.AsyncConfig;
+import infrastructure.logging.AppLogger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ExecutorFactory {
+    private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+    private static final long POOL_KEEP_ALIVE_SECONDS = 60;
+
+    private final AppLogger logger;
+
+    public ExecutorFactory(AppLogger logger) {
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        this.logger = logger;
+    }
+
+    public ExecutorService create(AsyncConfig config, String threadNamePrefix) {
+        if (config == null) {
+            throw new IllegalArgumentException("Async config cannot be null");
+        }
+
+        String safePrefix = normalize(threadNamePrefix, "parking-worker");
+
+        if (config.getExecutorMode() != AsyncConfig.ExecutorMode.POOL) {
+            ExecutorService virtualExecutor = createVirtualThreadExecutor();
+
+            if (virtualExecutor != null) {
+                logger.info("Using virtual threads for " + safePrefix + " tasks.");
+                return virtualExecutor;
+            }
+
+            if (config.getExecutorMode() == AsyncConfig.ExecutorMode.VIRTUAL) {
+                logger.warn("Virtual threads require Java 21 or newer. Falling back to a bounded thread pool.");
+            }
+        }
+
+        logger.info("Using a bounded pool of " + config.getPoolSize() + " thread(s) for " + safePrefix + " tasks.");
+        return createBoundedPool(config, safePrefix);
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factoryMethod = Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD);
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        } catch (Exception exception) {
+            logger.warn("Failed to create virtual thread executor: " + exception.getMessage());
+            return null;
+        }
+    }
+
+    private ExecutorService createBoundedPool(AsyncConfig config, String threadNamePrefix) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                config.getPoolSize(),
+                config.getPoolSize(),
+                POOL_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                createThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private String normalize(String value, String fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,74 @@
+package infrastructure.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+public final class SerialExecutor implements Executor {
+    private final Executor delegate;
+    private final ArrayDeque<Runnable> tasks;
+
+    private boolean running;
+
+    public SerialExecutor(Executor delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+
+        this.delegate = delegate;
+        this.tasks = new ArrayDeque<>();
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+
+        tasks.addLast(task);
+
+        if (running) {
+            return;
+        }
+
+        try {
+            delegate.execute(this::runTasks);
+            running = true;
+        } catch (RuntimeException exception) {
+            tasks.removeLast();
+            throw exception;
+        }
+    }
+
+    private void runTasks() {
+        Runnable task = pollTask();
+
+        while (task != null) {
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                Thread currentThread = Thread.currentThread();
+                currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, exception);
+            }
+
+            task = handOff();
+        }
+    }
+
+    private synchronized Runnable pollTask() {
+        return tasks.pollFirst();
+    }
+
+    private synchronized Runnable handOff() {
+        if (tasks.isEmpty()) {
+            running = false;
+            return null;
+        }
+
+        try {
+            delegate.execute(this::runTasks);
+            return null;
+        } catch (RuntimeException exception) {
+            return tasks.pollFirst();
+        }
+    }
+}
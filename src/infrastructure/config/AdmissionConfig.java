@@ -0,0 +1,59 @@
+package infrastructure.config;
+
+public final class AdmissionConfig {
+    private static final int DEFAULT_MAX_CONCURRENT_PER_CLIENT = 4;
+    private static final int DEFAULT_INITIAL_LIMIT = 16;
+    private static final int DEFAULT_MIN_LIMIT = 2;
+    private static final int DEFAULT_MAX_LIMIT = 64;
+    private static final int DEFAULT_LATENCY_TARGET_MILLIS = 250;
+
+    private final int maxConcurrentPerClient;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int latencyTargetMillis;
+
+    public AdmissionConfig(
+            int maxConcurrentPerClient,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int latencyTargetMillis
+    ) {
+        this.maxConcurrentPerClient = maxConcurrentPerClient <= 0 ? DEFAULT_MAX_CONCURRENT_PER_CLIENT : maxConcurrentPerClient;
+        this.minLimit = minLimit <= 0 ? DEFAULT_MIN_LIMIT : minLimit;
+        this.maxLimit = Math.max(this.minLimit, maxLimit <= 0 ? DEFAULT_MAX_LIMIT : maxLimit);
+        this.initialLimit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit <= 0 ? DEFAULT_INITIAL_LIMIT : initialLimit));
+        this.latencyTargetMillis = latencyTargetMillis <= 0 ? DEFAULT_LATENCY_TARGET_MILLIS : latencyTargetMillis;
+    }
+
+    public static AdmissionConfig defaults() {
+        return new AdmissionConfig(
+                DEFAULT_MAX_CONCURRENT_PER_CLIENT,
+                DEFAULT_INITIAL_LIMIT,
+                DEFAULT_MIN_LIMIT,
+                DEFAULT_MAX_LIMIT,
+                DEFAULT_LATENCY_TARGET_MILLIS
+        );
+    }
+
+    public int getMaxConcurrentPerClient() {
+        return maxConcurrentPerClient;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getLatencyTargetMillis() {
+        return latencyTargetMillis;
+    }
+}
@@ -15,6 +15,17 @@ public final class AppConfig {
     private final String parkingLotFileName;
     private final String reportFileName;
     private final String appTitle;
+    private final ReportConfig reportConfig;
+    private final AsyncConfig asyncConfig;
+    private final IdempotencyConfig idempotencyConfig;
+    private final AdmissionConfig admissionConfig;
+    private final MetricsConfig metricsConfig;
+    private final TracingConfig tracingConfig;
+    private final LoggingConfig loggingConfig;
+    private final FacilityConfig facilityConfig;
+    private final DashboardConfig dashboardConfig;
+    private final FileWatchConfig fileWatchConfig;
+    private final ParkBatchConfig parkBatchConfig;
 
     public AppConfig(
             int parkingLotSize,
@@ -22,12 +33,61 @@ public final class AppConfig {
             String parkingLotFileName,
             String reportFileName,
             String appTitle
+    ) {
+        this(
+                parkingLotSize,
+                dataDirectory,
+                parkingLotFileName,
+                reportFileName,
+                appTitle,
+                ReportConfig.defaults(),
+                AsyncConfig.defaults(),
+                IdempotencyConfig.defaults(),
+                AdmissionConfig.defaults(),
+                MetricsConfig.defaults(),
+                TracingConfig.defaults(),
+                LoggingConfig.defaults(),
+                FacilityConfig.defaults(),
+                DashboardConfig.defaults(),
+                FileWatchConfig.defaults(),
+                ParkBatchConfig.defaults()
+        );
+    }
+
+    public AppConfig(
+            int parkingLotSize,
+            Path dataDirectory,
+            String parkingLotFileName,
+            String reportFileName,
+            String appTitle,
+            ReportConfig reportConfig,
+            AsyncConfig asyncConfig,
+            IdempotencyConfig idempotencyConfig,
+            AdmissionConfig admissionConfig,
+            MetricsConfig metricsConfig,
+            TracingConfig tracingConfig,
+            LoggingConfig loggingConfig,
+            FacilityConfig facilityConfig,
+            DashboardConfig dashboardConfig,
+            FileWatchConfig fileWatchConfig,
+            ParkBatchConfig parkBatchConfig
     ) {
         this.parkingLotSize = parkingLotSize <= 0 ? DEFAULT_PARKING_LOT_SIZE : parkingLotSize;
         this.dataDirectory = dataDirectory == null ? Paths.get(DEFAULT_DATA_DIRECTORY) : dataDirectory;
         this.parkingLotFileName = normalize(parkingLotFileName, DEFAULT_PARKING_LOT_FILE_NAME);
         this.reportFileName = normalize(reportFileName, DEFAULT_REPORT_FILE_NAME);
         this.appTitle = normalize(appTitle, DEFAULT_APP_TITLE);
+        this.reportConfig = reportConfig == null ? ReportConfig.defaults() : reportConfig;
+        this.asyncConfig = asyncConfig == null ? AsyncConfig.defaults() : asyncConfig;
+        this.idempotencyConfig = idempotencyConfig == null ? IdempotencyConfig.defaults() : idempotencyConfig;
+        this.admissionConfig = admissionConfig == null ? AdmissionConfig.defaults() : admissionConfig;
+        this.metricsConfig = metricsConfig == null ? MetricsConfig.defaults() : metricsConfig;
+        this.tracingConfig = tracingConfig == null ? TracingConfig.defaults() : tracingConfig;
+        this.loggingConfig = loggingConfig == null ? LoggingConfig.defaults() : loggingConfig;
+        this.facilityConfig = facilityConfig == null ? FacilityConfig.defaults() : facilityConfig;
+        this.dashboardConfig = dashboardConfig == null ? DashboardConfig.defaults() : dashboardConfig;
+        this.fileWatchConfig = fileWatchConfig == null ? FileWatchConfig.defaults() : fileWatchConfig;
+        this.parkBatchConfig = parkBatchConfig == null ? ParkBatchConfig.defaults() : parkBatchConfig;
     }
 
     public static AppConfig defaults() {
@@ -36,7 +96,43 @@ public final class AppConfig {
                 Paths.get(DEFAULT_DATA_DIRECTORY),
                 DEFAULT_PARKING_LOT_FILE_NAME,
                 DEFAULT_REPORT_FILE_NAME,
-                DEFAULT_APP_TITLE
+                DEFAULT_APP_TITLE,
+                ReportConfig.defaults(),
+                AsyncConfig.defaults(),
+                IdempotencyConfig.defaults(),
+                AdmissionConfig.defaults(),
+                MetricsConfig.defaults(),
+                TracingConfig.defaults(),
+                LoggingConfig.defaults(),
+                FacilityConfig.defaults(),
+                DashboardConfig.defaults(),
+                FileWatchConfig.defaults(),
+                ParkBatchConfig.defaults()
+        );
+    }
+
+    public AppConfig forParkingLot(LotConfig lotConfig) {
+        if (lotConfig == null) {
+            throw new IllegalArgumentException("Parking lot config cannot be null");
+        }
+
+        return new AppConfig(
+                lotConfig.getSize(),
+                dataDirectory.resolve(facilityConfig.getDirectoryName()).resolve(lotConfig.getName()),
+                lotConfig.getFileName(),
+                reportFileName,
+                appTitle + " - " + lotConfig.getName(),
+                reportConfig,
+                asyncConfig,
+                idempotencyConfig,
+                admissionConfig,
+                metricsConfig,
+                tracingConfig,
+                loggingConfig,
+                FacilityConfig.defaults(),
+                dashboardConfig,
+                fileWatchConfig,
+                parkBatchConfig
         );
     }
 
@@ -60,6 +156,50 @@ public final class AppConfig {
         return appTitle;
     }
 
+    public ReportConfig getReportConfig() {
+        return reportConfig;
+    }
+
+    public AsyncConfig getAsyncConfig() {
+        return asyncConfig;
+    }
+
+    public IdempotencyConfig getIdempotencyConfig() {
+        return idempotencyConfig;
+    }
+
+    public AdmissionConfig getAdmissionConfig() {
+        return admissionConfig;
+    }
+
+    public MetricsConfig getMetricsConfig() {
+        return metricsConfig;
+    }
+
+    public TracingConfig getTracingConfig() {
+        return tracingConfig;
+    }
+
+    public LoggingConfig getLoggingConfig() {
+        return loggingConfig;
+    }
+
+    public FacilityConfig getFacilityConfig() {
+        return facilityConfig;
+    }
+
+    public DashboardConfig getDashboardConfig() {
+        return dashboardConfig;
+    }
+
+    public FileWatchConfig getFileWatchConfig() {
+        return fileWatchConfig;
+    }
+
+    public ParkBatchConfig getParkBatchConfig() {
+        return parkBatchConfig;
+    }
+
     private static String normalize(String value, String fallback) {
         if (value == null || value.trim().isEmpty()) {
             return fallback;
@@ -0,0 +1,49 @@
+package infrastructure.config;
+
+import java.util.Locale;
+
+public final class AsyncConfig {
+    public enum ExecutorMode {
+        AUTO,
+        VIRTUAL,
+        POOL
+    }
+
+    private static final ExecutorMode DEFAULT_EXECUTOR_MODE = ExecutorMode.AUTO;
+    private static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private final ExecutorMode executorMode;
+    private final int poolSize;
+    private final int queueCapacity;
+
+    public AsyncConfig(ExecutorMode executorMode, int poolSize, int queueCapacity) {
+        this.executorMode = executorMode == null ? DEFAULT_EXECUTOR_MODE : executorMode;
+        this.poolSize = poolSize <= 0 ? DEFAULT_POOL_SIZE : poolSize;
+        this.queueCapacity = queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+    }
+
+    public static AsyncConfig defaults() {
+        return new AsyncConfig(DEFAULT_EXECUTOR_MODE, DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static ExecutorMode parseExecutorMode(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_EXECUTOR_MODE;
+        }
+
+        return ExecutorMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public ExecutorMode getExecutorMode() {
+        return executorMode;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+}
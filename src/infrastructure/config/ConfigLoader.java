@@ -1,16 +1,23 @@
 package infrastructure.config;
 
 import infrastructure.logging.AppLogger;
+import infrastructure.logging.LogLevel;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 public final class ConfigLoader {
     private static final String DEFAULT_CONFIG_FILE = "config.properties";
+    private static final Pattern LOT_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
 
     private final AppLogger logger;
 
@@ -47,7 +54,18 @@ public final class ConfigLoader {
                     Paths.get(normalize(properties.getProperty("data.directory"), AppConfig.defaults().getDataDirectory().toString())),
                     normalize(properties.getProperty("parking.lot.file"), AppConfig.defaults().getParkingLotFileName()),
                     normalize(properties.getProperty("report.file"), AppConfig.defaults().getReportFileName()),
-                    normalize(properties.getProperty("app.title"), AppConfig.defaults().getAppTitle())
+                    normalize(properties.getProperty("app.title"), AppConfig.defaults().getAppTitle()),
+                    loadReportConfig(properties),
+                    loadAsyncConfig(properties),
+                    loadIdempotencyConfig(properties),
+                    loadAdmissionConfig(properties),
+                    loadMetricsConfig(properties),
+                    loadTracingConfig(properties),
+                    loadLoggingConfig(properties),
+                    loadFacilityConfig(properties),
+                    loadDashboardConfig(properties),
+                    loadFileWatchConfig(properties),
+                    loadParkBatchConfig(properties)
             );
         } catch (IOException exception) {
             logger.error("Failed to read config file. Using default configuration.", exception);
@@ -58,6 +76,197 @@ public final class ConfigLoader {
         }
     }
 
+    private ReportConfig loadReportConfig(Properties properties) {
+        ReportConfig defaults = ReportConfig.defaults();
+
+        return new ReportConfig(
+                parseBoolean(properties.getProperty("report.schedule.enabled"), defaults.isScheduleEnabled()),
+                parsePositiveInteger(properties.getProperty("report.schedule.interval.minutes"), defaults.getScheduleIntervalMinutes()),
+                normalize(properties.getProperty("report.archive.directory"), defaults.getArchiveDirectoryName()),
+                parsePositiveInteger(properties.getProperty("report.archive.max.files"), defaults.getArchiveMaxFiles()),
+                parsePositiveInteger(properties.getProperty("report.archive.max.age.days"), defaults.getArchiveMaxAgeDays()),
+                parseBoolean(properties.getProperty("report.fixed.width.rows"), defaults.isFixedWidthRows())
+        );
+    }
+
+    private AsyncConfig loadAsyncConfig(Properties properties) {
+        AsyncConfig defaults = AsyncConfig.defaults();
+
+        return new AsyncConfig(
+                parseExecutorMode(properties.getProperty("async.executor"), defaults.getExecutorMode()),
+                parsePositiveInteger(properties.getProperty("async.pool.size"), defaults.getPoolSize()),
+                parsePositiveInteger(properties.getProperty("async.queue.capacity"), defaults.getQueueCapacity())
+        );
+    }
+
+    private IdempotencyConfig loadIdempotencyConfig(Properties properties) {
+        IdempotencyConfig defaults = IdempotencyConfig.defaults();
+
+        return new IdempotencyConfig(
+                parsePositiveInteger(properties.getProperty("idempotency.cache.size"), defaults.getCacheSize()),
+                parsePositiveInteger(properties.getProperty("idempotency.ttl.seconds"), defaults.getTtlSeconds())
+        );
+    }
+
+    private AdmissionConfig loadAdmissionConfig(Properties properties) {
+        AdmissionConfig defaults = AdmissionConfig.defaults();
+
+        return new AdmissionConfig(
+                parsePositiveInteger(properties.getProperty("admission.max.concurrent.per.client"), defaults.getMaxConcurrentPerClient()),
+                parsePositiveInteger(properties.getProperty("admission.initial.limit"), defaults.getInitialLimit()),
+                parsePositiveInteger(properties.getProperty("admission.min.limit"), defaults.getMinLimit()),
+                parsePositiveInteger(properties.getProperty("admission.max.limit"), defaults.getMaxLimit()),
+                parsePositiveInteger(properties.getProperty("admission.latency.target.millis"), defaults.getLatencyTargetMillis())
+        );
+    }
+
+    private MetricsConfig loadMetricsConfig(Properties properties) {
+        MetricsConfig defaults = MetricsConfig.defaults();
+
+        return new MetricsConfig(
+                parseBoolean(properties.getProperty("metrics.enabled"), defaults.isEnabled()),
+                parsePositiveInteger(properties.getProperty("metrics.dump.interval.seconds"), defaults.getDumpIntervalSeconds()),
+                normalize(properties.getProperty("metrics.file"), defaults.getFileName())
+        );
+    }
+
+    private TracingConfig loadTracingConfig(Properties properties) {
+        TracingConfig defaults = TracingConfig.defaults();
+
+        return new TracingConfig(
+                parseBoolean(properties.getProperty("tracing.enabled"), defaults.isEnabled()),
+                parsePositiveInteger(properties.getProperty("tracing.buffer.capacity"), defaults.getBufferCapacity()),
+                normalize(properties.getProperty("tracing.file"), defaults.getFileName())
+        );
+    }
+
+    private LoggingConfig loadLoggingConfig(Properties properties) {
+        LoggingConfig defaults = LoggingConfig.defaults();
+
+        return new LoggingConfig(
+                parseLogLevel(properties.getProperty("logging.level"), defaults.getLevel()),
+                parseBoolean(properties.getProperty("logging.file.enabled"), defaults.isFileEnabled()),
+                normalize(properties.getProperty("logging.directory"), defaults.getDirectoryName()),
+                normalize(properties.getProperty("logging.file"), defaults.getFileName()),
+                parsePositiveInteger(properties.getProperty("logging.max.file.size.kb"), defaults.getMaxFileSizeKb()),
+                parsePositiveInteger(properties.getProperty("logging.max.files"), defaults.getMaxFiles()),
+                parsePositiveInteger(properties.getProperty("logging.buffer.capacity"), defaults.getBufferCapacity()),
+                parseBoolean(properties.getProperty("logging.console"), defaults.isConsoleOutput())
+        );
+    }
+
+    private FacilityConfig loadFacilityConfig(Properties properties) {
+        FacilityConfig defaults = FacilityConfig.defaults();
+        String lotNames = properties.getProperty("facility.lots");
+        List<LotConfig> lots = new ArrayList<>();
+
+        if (lotNames != null) {
+            Set<String> seenNames = new LinkedHashSet<>();
+
+            for (String rawName : lotNames.split(",")) {
+                String name = rawName.trim();
+
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                if (!LOT_NAME_PATTERN.matcher(name).matches()) {
+                    logger.warn("Invalid parking lot name in facility.lots: " + name + ". Skipping lot.");
+                    continue;
+                }
+
+                if (!seenNames.add(name)) {
+                    logger.warn("Duplicate parking lot name in facility.lots: " + name + ". Skipping lot.");
+                    continue;
+                }
+
+                lots.add(new LotConfig(
+                        name,
+                        parsePositiveInteger(properties.getProperty("facility.lot." + name + ".size"), AppConfig.defaults().getParkingLotSize()),
+                        properties.getProperty("facility.lot." + name + ".file")
+                ));
+            }
+        }
+
+        return new FacilityConfig(
+                lots,
+                normalize(properties.getProperty("facility.directory"), defaults.getDirectoryName()),
+                normalize(properties.getProperty("facility.report.file"), defaults.getReportFileName())
+        );
+    }
+
+    private DashboardConfig loadDashboardConfig(Properties properties) {
+        DashboardConfig defaults = DashboardConfig.defaults();
+
+        return new DashboardConfig(
+                parseBoolean(properties.getProperty("dashboard.enabled"), defaults.isEnabled()),
+                parsePositiveInteger(properties.getProperty("dashboard.history.seconds"), defaults.getHistorySeconds())
+        );
+    }
+
+    private FileWatchConfig loadFileWatchConfig(Properties properties) {
+        FileWatchConfig defaults = FileWatchConfig.defaults();
+
+        return new FileWatchConfig(
+                parseBoolean(properties.getProperty("file.watch.enabled"), defaults.isEnabled()),
+                parsePositiveInteger(properties.getProperty("file.watch.debounce.millis"), defaults.getDebounceMillis())
+        );
+    }
+
+    private ParkBatchConfig loadParkBatchConfig(Properties properties) {
+        ParkBatchConfig defaults = ParkBatchConfig.defaults();
+
+        return new ParkBatchConfig(
+                parsePositiveInteger(properties.getProperty("park.batch.max.size"), defaults.getMaxSize()),
+                parsePositiveInteger(properties.getProperty("park.batch.window.millis"), defaults.getWindowMillis())
+        );
+    }
+
+    private LogLevel parseLogLevel(String value, LogLevel fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        try {
+            return LogLevel.parse(value);
+        } catch (IllegalArgumentException exception) {
+            logger.warn("Invalid log level config value: " + value + ". Using fallback.");
+            return fallback;
+        }
+    }
+
+    private AsyncConfig.ExecutorMode parseExecutorMode(String value, AsyncConfig.ExecutorMode fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        try {
+            return AsyncConfig.parseExecutorMode(value);
+        } catch (IllegalArgumentException exception) {
+            logger.warn("Invalid executor mode config value: " + value + ". Using fallback.");
+            return fallback;
+        }
+    }
+
+    private boolean parseBoolean(String value, boolean fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        String normalizedValue = value.trim();
+
+        if ("true".equalsIgnoreCase(normalizedValue)) {
+            return true;
+        }
+
+        if ("false".equalsIgnoreCase(normalizedValue)) {
+            return false;
+        }
+
+        logger.warn("Invalid boolean config value: " + value + ". Using fallback.");
+        return fallback;
+    }
+
     private int parsePositiveInteger(String value, int fallback) {
         if (value == null || value.trim().isEmpty()) {
             return fallback;
@@ -0,0 +1,27 @@
+package infrastructure.config;
+
+public final class DashboardConfig {
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final int DEFAULT_HISTORY_SECONDS = 300;
+    private static final int MIN_HISTORY_SECONDS = 60;
+
+    private final boolean enabled;
+    private final int historySeconds;
+
+    public DashboardConfig(boolean enabled, int historySeconds) {
+        this.enabled = enabled;
+        this.historySeconds = historySeconds <= 0 ? DEFAULT_HISTORY_SECONDS : Math.max(MIN_HISTORY_SECONDS, historySeconds);
+    }
+
+    public static DashboardConfig defaults() {
+        return new DashboardConfig(DEFAULT_ENABLED, DEFAULT_HISTORY_SECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getHistorySeconds() {
+        return historySeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FacilityConfig {
+    private static final String DEFAULT_DIRECTORY_NAME = "lots";
+    private static final String DEFAULT_REPORT_FILE_NAME = "facility_report.csv";
+
+    private final List<LotConfig> lots;
+    private final String directoryName;
+    private final String reportFileName;
+
+    public FacilityConfig(List<LotConfig> lots, String directoryName, String reportFileName) {
+        this.lots = lots == null ? new ArrayList<>() : new ArrayList<>(lots);
+        this.directoryName = normalize(directoryName, DEFAULT_DIRECTORY_NAME);
+        this.reportFileName = normalize(reportFileName, DEFAULT_REPORT_FILE_NAME);
+    }
+
+    public static FacilityConfig defaults() {
+        return new FacilityConfig(new ArrayList<>(), DEFAULT_DIRECTORY_NAME, DEFAULT_REPORT_FILE_NAME);
+    }
+
+    public List<LotConfig> getLots() {
+        return Collections.unmodifiableList(lots);
+    }
+
+    public boolean isEnabled() {
+        return !lots.isEmpty();
+    }
+
+    public String getDirectoryName() {
+        return directoryName;
+    }
+
+    public String getReportFileName() {
+        return reportFileName;
+    }
+
+    private static String normalize(String value, String fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        return value.trim();
+    }
+}
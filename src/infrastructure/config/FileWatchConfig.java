@@ -0,0 +1,26 @@
+package infrastructure.config;
+
+public final class FileWatchConfig {
+    private static final boolean DEFAULT_ENABLED = true;
+    private static final int DEFAULT_DEBOUNCE_MILLIS = 250;
+
+    private final boolean enabled;
+    private final int debounceMillis;
+
+    public FileWatchConfig(boolean enabled, int debounceMillis) {
+        this.enabled = enabled;
+        this.debounceMillis = debounceMillis <= 0 ? DEFAULT_DEBOUNCE_MILLIS : debounceMillis;
+    }
+
+    public static FileWatchConfig defaults() {
+        return new FileWatchConfig(DEFAULT_ENABLED, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getDebounceMillis() {
+        return debounceMillis;
+    }
+}
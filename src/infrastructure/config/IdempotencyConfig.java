@@ -0,0 +1,26 @@
+package infrastructure.config;
+
+public final class IdempotencyConfig {
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final int DEFAULT_TTL_SECONDS = 600;
+
+    private final int cacheSize;
+    private final int ttlSeconds;
+
+    public IdempotencyConfig(int cacheSize, int ttlSeconds) {
+        this.cacheSize = cacheSize <= 0 ? DEFAULT_CACHE_SIZE : cacheSize;
+        this.ttlSeconds = ttlSeconds <= 0 ? DEFAULT_TTL_SECONDS : ttlSeconds;
+    }
+
+    public static IdempotencyConfig defaults() {
+        return new IdempotencyConfig(DEFAULT_CACHE_SIZE, DEFAULT_TTL_SECONDS);
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public int getTtlSeconds() {
+        return ttlSeconds;
+    }
+}
@@ -0,0 +1,96 @@
+package infrastructure.config;
+
+import infrastructure.logging.LogLevel;
+
+public final class LoggingConfig {
+    private static final LogLevel DEFAULT_LEVEL = LogLevel.INFO;
+    private static final boolean DEFAULT_FILE_ENABLED = true;
+    private static final String DEFAULT_DIRECTORY_NAME = "logs";
+    private static final String DEFAULT_FILE_NAME = "carparking.log";
+    private static final int DEFAULT_MAX_FILE_SIZE_KB = 1024;
+    private static final int DEFAULT_MAX_FILES = 5;
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final boolean DEFAULT_CONSOLE_OUTPUT = true;
+
+    private final LogLevel level;
+    private final boolean fileEnabled;
+    private final String directoryName;
+    private final String fileName;
+    private final int maxFileSizeKb;
+    private final int maxFiles;
+    private final int bufferCapacity;
+    private final boolean consoleOutput;
+
+    public LoggingConfig(
+            LogLevel level,
+            boolean fileEnabled,
+            String directoryName,
+            String fileName,
+            int maxFileSizeKb,
+            int maxFiles,
+            int bufferCapacity,
+            boolean consoleOutput
+    ) {
+        this.level = level == null ? DEFAULT_LEVEL : level;
+        this.fileEnabled = fileEnabled;
+        this.directoryName = normalize(directoryName, DEFAULT_DIRECTORY_NAME);
+        this.fileName = normalize(fileName, DEFAULT_FILE_NAME);
+        this.maxFileSizeKb = maxFileSizeKb <= 0 ? DEFAULT_MAX_FILE_SIZE_KB : maxFileSizeKb;
+        this.maxFiles = maxFiles <= 0 ? DEFAULT_MAX_FILES : maxFiles;
+        this.bufferCapacity = bufferCapacity <= 0 ? DEFAULT_BUFFER_CAPACITY : bufferCapacity;
+        this.consoleOutput = consoleOutput;
+    }
+
+    public static LoggingConfig defaults() {
+        return new LoggingConfig(
+                DEFAULT_LEVEL,
+                DEFAULT_FILE_ENABLED,
+                DEFAULT_DIRECTORY_NAME,
+                DEFAULT_FILE_NAME,
+                DEFAULT_MAX_FILE_SIZE_KB,
+                DEFAULT_MAX_FILES,
+                DEFAULT_BUFFER_CAPACITY,
+                DEFAULT_CONSOLE_OUTPUT
+        );
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public boolean isFileEnabled() {
+        return fileEnabled;
+    }
+
+    public String getDirectoryName() {
+        return directoryName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getMaxFileSizeKb() {
+        return maxFileSizeKb;
+    }
+
+    public int getMaxFiles() {
+        return maxFiles;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public boolean isConsoleOutput() {
+        return consoleOutput;
+    }
+
+    private static String normalize(String value, String fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,35 @@
+package infrastructure.config;
+
+public final class LotConfig {
+    private final String name;
+    private final int size;
+    private final String fileName;
+
+    public LotConfig(String name, int size, String fileName) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Parking lot name cannot be empty");
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        this.name = name.trim();
+        this.size = size;
+        this.fileName = fileName == null || fileName.trim().isEmpty()
+                ? this.name + ".txt"
+                : fileName.trim();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
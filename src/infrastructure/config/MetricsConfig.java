@@ -0,0 +1,33 @@
+package infrastructure.config;
+
+public final class MetricsConfig {
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final int DEFAULT_DUMP_INTERVAL_SECONDS = 60;
+    private static final String DEFAULT_FILE_NAME = "metrics.txt";
+
+    private final boolean enabled;
+    private final int dumpIntervalSeconds;
+    private final String fileName;
+
+    public MetricsConfig(boolean enabled, int dumpIntervalSeconds, String fileName) {
+        this.enabled = enabled;
+        this.dumpIntervalSeconds = dumpIntervalSeconds <= 0 ? DEFAULT_DUMP_INTERVAL_SECONDS : dumpIntervalSeconds;
+        this.fileName = fileName == null || fileName.trim().isEmpty() ? DEFAULT_FILE_NAME : fileName.trim();
+    }
+
+    public static MetricsConfig defaults() {
+        return new MetricsConfig(DEFAULT_ENABLED, DEFAULT_DUMP_INTERVAL_SECONDS, DEFAULT_FILE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getDumpIntervalSeconds() {
+        return dumpIntervalSeconds;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,26 @@
+package infrastructure.config;
+
+public final class ParkBatchConfig {
+    private static final int DEFAULT_MAX_SIZE = 32;
+    private static final int DEFAULT_WINDOW_MILLIS = 5;
+
+    private final int maxSize;
+    private final int windowMillis;
+
+    public ParkBatchConfig(int maxSize, int windowMillis) {
+        this.maxSize = maxSize <= 0 ? DEFAULT_MAX_SIZE : maxSize;
+        this.windowMillis = windowMillis <= 0 ? DEFAULT_WINDOW_MILLIS : windowMillis;
+    }
+
+    public static ParkBatchConfig defaults() {
+        return new ParkBatchConfig(DEFAULT_MAX_SIZE, DEFAULT_WINDOW_MILLIS);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getWindowMillis() {
+        return windowMillis;
+    }
+}
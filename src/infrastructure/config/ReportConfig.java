@@ -0,0 +1,78 @@
+package infrastructure.config;
+
+public final class ReportConfig {
+    private static final boolean DEFAULT_SCHEDULE_ENABLED = false;
+    private static final int DEFAULT_SCHEDULE_INTERVAL_MINUTES = 60;
+    private static final String DEFAULT_ARCHIVE_DIRECTORY_NAME = "reports";
+    private static final int DEFAULT_ARCHIVE_MAX_FILES = 48;
+    private static final int DEFAULT_ARCHIVE_MAX_AGE_DAYS = 7;
+    private static final boolean DEFAULT_FIXED_WIDTH_ROWS = false;
+
+    private final boolean scheduleEnabled;
+    private final int scheduleIntervalMinutes;
+    private final String archiveDirectoryName;
+    private final int archiveMaxFiles;
+    private final int archiveMaxAgeDays;
+    private final boolean fixedWidthRows;
+
+    public ReportConfig(
+            boolean scheduleEnabled,
+            int scheduleIntervalMinutes,
+            String archiveDirectoryName,
+            int archiveMaxFiles,
+            int archiveMaxAgeDays,
+            boolean fixedWidthRows
+    ) {
+        this.scheduleEnabled = scheduleEnabled;
+        this.scheduleIntervalMinutes = scheduleIntervalMinutes <= 0
+                ? DEFAULT_SCHEDULE_INTERVAL_MINUTES
+                : scheduleIntervalMinutes;
+        this.archiveDirectoryName = normalize(archiveDirectoryName, DEFAULT_ARCHIVE_DIRECTORY_NAME);
+        this.archiveMaxFiles = archiveMaxFiles <= 0 ? DEFAULT_ARCHIVE_MAX_FILES : archiveMaxFiles;
+        this.archiveMaxAgeDays = archiveMaxAgeDays <= 0 ? DEFAULT_ARCHIVE_MAX_AGE_DAYS : archiveMaxAgeDays;
+        this.fixedWidthRows = fixedWidthRows;
+    }
+
+    public static ReportConfig defaults() {
+        return new ReportConfig(
+                DEFAULT_SCHEDULE_ENABLED,
+                DEFAULT_SCHEDULE_INTERVAL_MINUTES,
+                DEFAULT_ARCHIVE_DIRECTORY_NAME,
+                DEFAULT_ARCHIVE_MAX_FILES,
+                DEFAULT_ARCHIVE_MAX_AGE_DAYS,
+                DEFAULT_FIXED_WIDTH_ROWS
+        );
+    }
+
+    public boolean isScheduleEnabled() {
+        return scheduleEnabled;
+    }
+
+    public int getScheduleIntervalMinutes() {
+        return scheduleIntervalMinutes;
+    }
+
+    public String getArchiveDirectoryName() {
+        return archiveDirectoryName;
+    }
+
+    public int getArchiveMaxFiles() {
+        return archiveMaxFiles;
+    }
+
+    public int getArchiveMaxAgeDays() {
+        return archiveMaxAgeDays;
+    }
+
+    public boolean isFixedWidthRows() {
+        return fixedWidthRows;
+    }
+
+    private static String normalize(String value, String fallback) {
+        if (value == null || value.trim().isEmpty()) {
+            return fallback;
+        }
+
+        return value.trim();
+    }
+}
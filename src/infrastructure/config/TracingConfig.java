@@ -0,0 +1,33 @@
+package infrastructure.config;
+
+public final class TracingConfig {
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final String DEFAULT_FILE_NAME = "trace.json";
+
+    private final boolean enabled;
+    private final int bufferCapacity;
+    private final String fileName;
+
+    public TracingConfig(boolean enabled, int bufferCapacity, String fileName) {
+        this.enabled = enabled;
+        this.bufferCapacity = bufferCapacity <= 0 ? DEFAULT_BUFFER_CAPACITY : bufferCapacity;
+        this.fileName = fileName == null || fileName.trim().isEmpty() ? DEFAULT_FILE_NAME : fileName.trim();
+    }
+
+    public static TracingConfig defaults() {
+        return new TracingConfig(DEFAULT_ENABLED, DEFAULT_BUFFER_CAPACITY, DEFAULT_FILE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,63 @@
+package infrastructure.file;
+
+import application.repositories.FacilityReportRepository;
+import domain.entities.ParkingLot;
+import infrastructure.logging.AppLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+public final class CsvFacilityReportRepository implements FacilityReportRepository {
+    private final FilePaths filePaths;
+    private final ReportFileMapper mapper;
+    private final AppLogger logger;
+
+    public CsvFacilityReportRepository(FilePaths filePaths, ReportFileMapper mapper, AppLogger logger) {
+        if (filePaths == null) {
+            throw new IllegalArgumentException("File paths cannot be null");
+        }
+
+        if (mapper == null) {
+            throw new IllegalArgumentException("Report file mapper cannot be null");
+        }
+
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        this.filePaths = filePaths;
+        this.mapper = mapper;
+        this.logger = logger;
+    }
+
+    @Override
+    public synchronized String generate(Map<String, ParkingLot> parkingLotsByName) {
+        if (parkingLotsByName == null) {
+            throw new IllegalArgumentException("Parking lots cannot be null");
+        }
+
+        Path reportFile = filePaths.getFacilityReportFile();
+
+        try {
+            Path directory = reportFile.toAbsolutePath().getParent();
+
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                mapper.writeFacilityCsv(parkingLotsByName, writer);
+            }
+
+            logger.info("Generated facility report for " + parkingLotsByName.size() + " parking lot(s) at " + reportFile);
+            return reportFile.toString();
+        } catch (IOException exception) {
+            logger.error("Failed to generate facility report", exception);
+            return "";
+        }
+    }
+}
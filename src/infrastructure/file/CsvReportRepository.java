@@ -5,19 +5,42 @@ import domain.entities.ParkingLot;
 import infrastructure.logging.AppLogger;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public final class CsvReportRepository implements ReportRepository {
+    private static final double MAX_PATCH_RATIO = 0.25;
+
     private final FilePaths filePaths;
     private final ReportFileMapper mapper;
     private final AppLogger logger;
+    private final boolean fixedWidthRows;
+
+    private List<String> writtenRows;
+    private long writtenFileLength = -1L;
+    private FileTime writtenModifiedTime;
 
     public CsvReportRepository(
             FilePaths filePaths,
             ReportFileMapper mapper,
             AppLogger logger
+    ) {
+        this(filePaths, mapper, logger, false);
+    }
+
+    public CsvReportRepository(
+            FilePaths filePaths,
+            ReportFileMapper mapper,
+            AppLogger logger,
+            boolean fixedWidthRows
     ) {
         if (filePaths == null) {
             throw new IllegalArgumentException("File paths cannot be null");
@@ -34,10 +57,11 @@ public final class CsvReportRepository implements ReportRepository {
         this.filePaths = filePaths;
         this.mapper = mapper;
         this.logger = logger;
+        this.fixedWidthRows = fixedWidthRows;
     }
 
     @Override
-    public String generate(ParkingLot parkingLot) {
+    public synchronized String generate(ParkingLot parkingLot) {
         if (parkingLot == null) {
             throw new IllegalArgumentException("Parking lot cannot be null");
         }
@@ -45,22 +69,135 @@ public final class CsvReportRepository implements ReportRepository {
         try {
             ensureDataDirectoryExists();
 
-            List<String> lines = mapper.toCsvLines(parkingLot);
             Path reportFile = filePaths.getReportFile();
 
-            Files.write(reportFile, lines);
+            if (fixedWidthRows) {
+                writeFixedWidthReport(parkingLot, reportFile);
+            } else {
+                Files.write(reportFile, mapper.toCsvLines(parkingLot));
+            }
 
             logger.info("Generated parking report at " + reportFile);
             return reportFile.toString();
         } catch (IOException exception) {
+            forgetWrittenRows();
             logger.error("Failed to generate parking report", exception);
             return "";
         } catch (Exception exception) {
+            forgetWrittenRows();
             logger.error("Unexpected error while generating parking report", exception);
             return "";
         }
     }
 
+    @Override
+    public boolean exists(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return false;
+        }
+
+        try {
+            return Files.isRegularFile(Paths.get(filePath.trim()));
+        } catch (Exception exception) {
+            logger.warn("Failed to check report file " + filePath + ": " + exception.getMessage());
+            return false;
+        }
+    }
+
+    private void writeFixedWidthReport(ParkingLot parkingLot, Path reportFile) throws IOException {
+        List<String> rows = mapper.toFixedWidthCsvRows(parkingLot);
+
+        if (canPatch(reportFile, rows)) {
+            int patchedRows = patchChangedRows(reportFile, rows);
+
+            if (patchedRows >= 0) {
+                logger.info(() -> "Patched " + patchedRows + " changed row(s) in parking report");
+                rememberWrittenRows(reportFile, rows);
+                return;
+            }
+        }
+
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        lines.add(mapper.getHeader());
+        lines.addAll(rows);
+
+        Files.write(reportFile, lines, StandardCharsets.US_ASCII);
+        rememberWrittenRows(reportFile, rows);
+    }
+
+    private boolean canPatch(Path reportFile, List<String> rows) throws IOException {
+        if (writtenRows == null || writtenRows.size() != rows.size() || !Files.isRegularFile(reportFile)) {
+            return false;
+        }
+
+        if (!rows.isEmpty() && writtenRows.get(0).length() != rows.get(0).length()) {
+            return false;
+        }
+
+        return Files.size(reportFile) == writtenFileLength
+                && Files.getLastModifiedTime(reportFile).equals(writtenModifiedTime);
+    }
+
+    private int patchChangedRows(Path reportFile, List<String> rows) throws IOException {
+        List<Integer> changedIndexes = new ArrayList<>();
+
+        for (int index = 0; index < rows.size(); index++) {
+            if (!rows.get(index).equals(writtenRows.get(index))) {
+                changedIndexes.add(index);
+            }
+        }
+
+        if (changedIndexes.size() > rows.size() * MAX_PATCH_RATIO) {
+            return -1;
+        }
+
+        String lineSeparator = System.lineSeparator();
+        long headerLength = mapper.getHeader().length() + lineSeparator.length();
+        long rowStride = rows.isEmpty() ? 0 : rows.get(0).length() + lineSeparator.length();
+
+        try (FileChannel channel = FileChannel.open(reportFile, StandardOpenOption.WRITE)) {
+            int runStart = 0;
+
+            while (runStart < changedIndexes.size()) {
+                int runEnd = runStart;
+
+                while (runEnd + 1 < changedIndexes.size()
+                        && changedIndexes.get(runEnd + 1) == changedIndexes.get(runEnd) + 1) {
+                    runEnd++;
+                }
+
+                StringBuilder builder = new StringBuilder();
+
+                for (int run = runStart; run <= runEnd; run++) {
+                    builder.append(rows.get(changedIndexes.get(run))).append(lineSeparator);
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.US_ASCII));
+                long position = headerLength + changedIndexes.get(runStart) * rowStride;
+
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+
+                runStart = runEnd + 1;
+            }
+        }
+
+        return changedIndexes.size();
+    }
+
+    private void rememberWrittenRows(Path reportFile, List<String> rows) throws IOException {
+        writtenRows = new ArrayList<>(rows);
+        writtenFileLength = Files.size(reportFile);
+        writtenModifiedTime = Files.getLastModifiedTime(reportFile);
+    }
+
+    private void forgetWrittenRows() {
+        writtenRows = null;
+        writtenFileLength = -1L;
+        writtenModifiedTime = null;
+    }
+
     private void ensureDataDirectoryExists() throws IOException {
         Path dataDirectory = filePaths.getDataDirectory();
 
@@ -69,4 +206,4 @@ public final class CsvReportRepository implements ReportRepository {
             logger.info("Created data directory at " + dataDirectory);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package infrastructure.file;
+
+import application.metrics.MetricsRegistry;
+import application.repositories.ParkingLotRepository;
+import application.services.FacilityLot;
+import application.services.FacilityService;
+import application.services.ParkingService;
+import application.tracing.Tracer;
+import application.validators.LicensePlateFormatValidator;
+import application.validators.ParkingRequestValidator;
+import infrastructure.config.AppConfig;
+import infrastructure.config.LotConfig;
+import infrastructure.logging.AppLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public final class FileFacilityFactory {
+    private final AppLogger logger;
+    private final MetricsRegistry metrics;
+    private final Tracer tracer;
+
+    public FileFacilityFactory(AppLogger logger) {
+        this(logger, MetricsRegistry.disabled(), Tracer.disabled());
+    }
+
+    public FileFacilityFactory(AppLogger logger, MetricsRegistry metrics, Tracer tracer) {
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
+        this.logger = logger;
+        this.metrics = metrics;
+        this.tracer = tracer;
+    }
+
+    public FacilityService create(AppConfig config, Executor executor) {
+        if (config == null) {
+            throw new IllegalArgumentException("Application config cannot be null");
+        }
+
+        if (!config.getFacilityConfig().isEnabled()) {
+            throw new IllegalStateException("No parking lots are configured in facility.lots");
+        }
+
+        ParkingLotFileMapper parkingLotFileMapper = new ParkingLotFileMapper(logger, metrics, tracer);
+        ParkingRequestValidator requestValidator = new ParkingRequestValidator(new LicensePlateFormatValidator());
+        List<FacilityLot> lots = new ArrayList<>();
+
+        for (LotConfig lotConfig : config.getFacilityConfig().getLots()) {
+            AppConfig lotAppConfig = config.forParkingLot(lotConfig);
+            ParkingLotRepository repository = new FileParkingLotRepository(
+                    new FilePaths(lotAppConfig),
+                    parkingLotFileMapper,
+                    logger,
+                    metrics,
+                    tracer
+            );
+            ParkingService parkingService = new ParkingService(
+                    repository,
+                    requestValidator,
+                    lotConfig.getSize(),
+                    config.getIdempotencyConfig().getCacheSize(),
+                    Duration.ofSeconds(config.getIdempotencyConfig().getTtlSeconds()),
+                    tracer,
+                    logger::error
+            );
+
+            lots.add(new FacilityLot(lotConfig.getName(), lotConfig.getSize(), parkingService, repository));
+        }
+
+        logger.info("Configured facility with " + lots.size() + " parking lot(s).");
+
+        return new FacilityService(
+                lots,
+                new CsvFacilityReportRepository(new FilePaths(config), new ReportFileMapper(), logger),
+                executor
+        );
+    }
+}
@@ -1,9 +1,13 @@
 package infrastructure.file;
 
+import application.metrics.MetricsRegistry;
+import application.repositories.ParkingLotLoadResult;
 import application.repositories.ParkingLotRepository;
 import application.repositories.ParkingLotUpdateCommand;
 import application.repositories.ParkingLotUpdateResult;
+import application.tracing.Tracer;
 import domain.entities.ParkingLot;
+import domain.exceptions.DomainException;
 import infrastructure.logging.AppLogger;
 
 import java.io.IOException;
@@ -11,17 +15,48 @@ import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 public final class FileParkingLotRepository implements ParkingLotRepository {
     private final FilePaths filePaths;
     private final ParkingLotFileMapper mapper;
     private final AppLogger logger;
+    private final MetricsRegistry metrics;
+    private final Tracer tracer;
+    private final ReentrantLock lock;
+    private final List<Consumer<List<String>>> writeListeners;
+    private final List<LongConsumer> commitLatencyListeners;
+
+    private long version;
+    private FileTime observedModifiedTime;
+    private long observedFileSize = -1L;
 
     public FileParkingLotRepository(
             FilePaths filePaths,
             ParkingLotFileMapper mapper,
             AppLogger logger) {
+        this(filePaths, mapper, logger, MetricsRegistry.disabled());
+    }
+
+    public FileParkingLotRepository(
+            FilePaths filePaths,
+            ParkingLotFileMapper mapper,
+            AppLogger logger,
+            MetricsRegistry metrics) {
+        this(filePaths, mapper, logger, metrics, Tracer.disabled());
+    }
+
+    public FileParkingLotRepository(
+            FilePaths filePaths,
+            ParkingLotFileMapper mapper,
+            AppLogger logger,
+            MetricsRegistry metrics,
+            Tracer tracer) {
         if (filePaths == null) {
             throw new IllegalArgumentException("File paths cannot be null");
         }
@@ -34,15 +69,97 @@ public final class FileParkingLotRepository implements ParkingLotRepository {
             throw new IllegalArgumentException("Logger cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
         this.filePaths = filePaths;
         this.mapper = mapper;
         this.logger = logger;
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.lock = new ReentrantLock();
+        this.writeListeners = new CopyOnWriteArrayList<>();
+        this.commitLatencyListeners = new CopyOnWriteArrayList<>();
+    }
+
+    public void addWriteListener(Consumer<List<String>> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Write listener cannot be null");
+        }
+
+        writeListeners.add(listener);
+    }
+
+    public void addCommitLatencyListener(LongConsumer listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Commit latency listener cannot be null");
+        }
+
+        commitLatencyListeners.add(listener);
     }
 
     @Override
-    public synchronized ParkingLot load(int size) {
+    public ParkingLot load(int size) {
+        ParkingLotLoadResult result = tryLoad(size);
+
+        if (result.isFailed()) {
+            logger.warn("Returning empty parking lot because the parking lot file could not be read.");
+            return new ParkingLot(size);
+        }
+
+        return result.getParkingLot();
+    }
+
+    @Override
+    public ParkingLotLoadResult tryLoad(int size) {
         validateSize(size);
 
+        return tracer.trace("repository.load", () -> performLoad(size));
+    }
+
+    private ParkingLotLoadResult performLoad(int size) {
+        long startNanos = metrics.startTimer();
+        acquireLock();
+
+        try {
+            metrics.recordSince("repository.load.lockWait", startNanos);
+
+            long ioStartNanos = metrics.startTimer();
+            ParkingLotLoadResult result = tryReadParkingLot(size);
+            metrics.recordSince("repository.load.io", ioStartNanos);
+
+            return result;
+        } finally {
+            lock.unlock();
+            metrics.recordSince("repository.load", startNanos);
+        }
+    }
+
+    private void acquireLock() {
+        tracer.trace("repository.lockWait", lock::lock);
+    }
+
+    private ParkingLot readParkingLot(int size) {
+        ParkingLotLoadResult result = tryReadParkingLot(size);
+
+        if (result.isFailed()) {
+            logger.warn("Returning empty parking lot because the parking lot file could not be read.");
+            return new ParkingLot(size);
+        }
+
+        return result.getParkingLot();
+    }
+
+    private ParkingLotLoadResult tryReadParkingLot(int size) {
+        return tracer.trace("repository.read", () -> performReadParkingLot(size));
+    }
+
+    private ParkingLotLoadResult performReadParkingLot(int size) {
         try {
             ensureDataDirectoryExists();
 
@@ -52,36 +169,90 @@ public final class FileParkingLotRepository implements ParkingLotRepository {
                 logger.info("Parking lot file not found. Creating empty parking lot file.");
                 ParkingLot emptyParkingLot = new ParkingLot(size);
                 writeParkingLot(emptyParkingLot);
-                return emptyParkingLot;
+                return ParkingLotLoadResult.loaded(emptyParkingLot);
             }
 
             List<String> lines = Files.readAllLines(parkingLotFile);
-            return mapper.fromLines(lines, size);
+            return ParkingLotLoadResult.loaded(mapper.fromLines(lines, size));
         } catch (IOException exception) {
-            logger.error("Failed to load parking lot file. Returning empty parking lot.", exception);
-            return new ParkingLot(size);
+            logger.error("Failed to load parking lot file", exception);
+            return ParkingLotLoadResult.failed("Parking data file could not be read: " + exception.getMessage());
         } catch (Exception exception) {
-            logger.error("Unexpected error while loading parking lot. Returning empty parking lot.", exception);
-            return new ParkingLot(size);
+            logger.error("Unexpected error while loading parking lot", exception);
+            return ParkingLotLoadResult.failed("Parking data could not be loaded because an unexpected error occurred");
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public synchronized <T> ParkingLotUpdateResult<T> update(int size, ParkingLotUpdateCommand<T> command) {
+    public <T> ParkingLotUpdateResult<T> update(int size, ParkingLotUpdateCommand<T> command) {
         validateSize(size);
 
         if (command == null) {
             return ParkingLotUpdateResult.failed("Parking lot update command cannot be null");
         }
 
+        return tracer.trace("repository.update", () -> performUpdate(size, command));
+    }
+
+    private <T> ParkingLotUpdateResult<T> performUpdate(int size, ParkingLotUpdateCommand<T> command) {
+        long startNanos = metrics.startTimer();
+        long commitStartNanos = System.nanoTime();
+        acquireLock();
+
+        try {
+            metrics.recordSince("repository.update.lockWait", startNanos);
+
+            ParkingLotUpdateResult<T> result = updateLocked(size, command);
+            metrics.increment(result.isCommitted() ? "repository.update.committed" : "repository.update.failed");
+            return result;
+        } catch (DomainException exception) {
+            metrics.increment("repository.update.rejected");
+            throw exception;
+        } finally {
+            lock.unlock();
+            metrics.recordSince("repository.update", startNanos);
+            notifyCommitLatencyListeners(System.nanoTime() - commitStartNanos);
+        }
+    }
+
+    private void notifyCommitLatencyListeners(long latencyNanos) {
+        for (LongConsumer listener : commitLatencyListeners) {
+            try {
+                listener.accept(latencyNanos);
+            } catch (RuntimeException exception) {
+                logger.error("Parking lot commit latency listener failed", exception);
+            }
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        lock.lock();
+
+        try {
+            observeFileState();
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ParkingLotUpdateResult<T> updateLocked(int size, ParkingLotUpdateCommand<T> command) {
         try {
             ensureDataDirectoryExists();
 
-            ParkingLot parkingLot = load(size);
-            T result = command.execute(parkingLot);
+            long readStartNanos = metrics.startTimer();
+            ParkingLot parkingLot = readParkingLot(size);
+            metrics.recordSince("repository.update.read", readStartNanos);
+
+            long commandStartNanos = metrics.startTimer();
+            T result = tracer.trace("repository.command", () -> command.execute(parkingLot));
+            metrics.recordSince("repository.update.command", commandStartNanos);
 
+            long writeStartNanos = metrics.startTimer();
             writeParkingLot(parkingLot);
+            metrics.recordSince("repository.update.write", writeStartNanos);
 
             if (result == null) {
                 return (ParkingLotUpdateResult<T>) ParkingLotUpdateResult.committedWithoutData(
@@ -89,6 +260,8 @@ public final class FileParkingLotRepository implements ParkingLotRepository {
             }
 
             return ParkingLotUpdateResult.committed(result);
+        } catch (DomainException exception) {
+            throw exception;
         } catch (IOException exception) {
             logger.error("Failed to commit parking lot update", exception);
             return ParkingLotUpdateResult.failed("Failed to save parking data. Check file permissions or disk space.");
@@ -106,14 +279,35 @@ public final class FileParkingLotRepository implements ParkingLotRepository {
             throw new IllegalArgumentException("Parking lot cannot be null");
         }
 
+        tracer.traceChecked("repository.write", () -> performWriteParkingLot(parkingLot));
+    }
+
+    private void performWriteParkingLot(ParkingLot parkingLot) throws IOException {
         ensureDataDirectoryExists();
 
         List<String> lines = mapper.toLines(parkingLot);
         Path targetFile = filePaths.getParkingLotFile();
         Path temporaryFile = targetFile.resolveSibling(targetFile.getFileName() + ".tmp");
 
-        Files.write(temporaryFile, lines);
+        tracer.traceChecked("repository.writeTemporaryFile", () -> Files.write(temporaryFile, lines));
+        tracer.traceChecked("repository.atomicMove", () -> moveIntoPlace(temporaryFile, targetFile));
+
+        version++;
+        recordFileState(targetFile);
+        notifyWriteListeners(lines);
+    }
+
+    private void notifyWriteListeners(List<String> lines) {
+        for (Consumer<List<String>> listener : writeListeners) {
+            try {
+                listener.accept(lines);
+            } catch (RuntimeException exception) {
+                logger.error("Parking lot write listener failed", exception);
+            }
+        }
+    }
 
+    private void moveIntoPlace(Path temporaryFile, Path targetFile) throws IOException {
         try {
             Files.move(
                     temporaryFile,
@@ -129,6 +323,47 @@ public final class FileParkingLotRepository implements ParkingLotRepository {
         }
     }
 
+    private void observeFileState() {
+        Path parkingLotFile = filePaths.getParkingLotFile();
+
+        try {
+            if (!Files.exists(parkingLotFile)) {
+                if (observedModifiedTime != null) {
+                    version++;
+                    observedModifiedTime = null;
+                    observedFileSize = -1L;
+                }
+
+                return;
+            }
+
+            FileTime modifiedTime = Files.getLastModifiedTime(parkingLotFile);
+            long fileSize = Files.size(parkingLotFile);
+
+            if (!modifiedTime.equals(observedModifiedTime) || fileSize != observedFileSize) {
+                version++;
+                observedModifiedTime = modifiedTime;
+                observedFileSize = fileSize;
+            }
+        } catch (IOException exception) {
+            logger.warn(() -> "Failed to read parking lot file attributes: " + exception.getMessage());
+            version++;
+            observedModifiedTime = null;
+            observedFileSize = -1L;
+        }
+    }
+
+    private void recordFileState(Path parkingLotFile) {
+        try {
+            observedModifiedTime = Files.getLastModifiedTime(parkingLotFile);
+            observedFileSize = Files.size(parkingLotFile);
+        } catch (IOException exception) {
+            logger.warn(() -> "Failed to record parking lot file attributes: " + exception.getMessage());
+            observedModifiedTime = null;
+            observedFileSize = -1L;
+        }
+    }
+
     private void ensureDataDirectoryExists() throws IOException {
         Path dataDirectory = filePaths.getDataDirectory();
 
@@ -8,6 +8,11 @@ public final class FilePaths {
     private final Path dataDirectory;
     private final Path parkingLotFile;
     private final Path reportFile;
+    private final Path reportArchiveDirectory;
+    private final Path metricsFile;
+    private final Path traceFile;
+    private final Path logFile;
+    private final Path facilityReportFile;
 
     public FilePaths(AppConfig config) {
         if (config == null) {
@@ -17,6 +22,13 @@ public final class FilePaths {
         this.dataDirectory = config.getDataDirectory();
         this.parkingLotFile = dataDirectory.resolve(config.getParkingLotFileName());
         this.reportFile = dataDirectory.resolve(config.getReportFileName());
+        this.reportArchiveDirectory = dataDirectory.resolve(config.getReportConfig().getArchiveDirectoryName());
+        this.metricsFile = dataDirectory.resolve(config.getMetricsConfig().getFileName());
+        this.traceFile = dataDirectory.resolve(config.getTracingConfig().getFileName());
+        this.logFile = dataDirectory
+                .resolve(config.getLoggingConfig().getDirectoryName())
+                .resolve(config.getLoggingConfig().getFileName());
+        this.facilityReportFile = dataDirectory.resolve(config.getFacilityConfig().getReportFileName());
     }
 
     public Path getDataDirectory() {
@@ -30,4 +42,24 @@ public final class FilePaths {
     public Path getReportFile() {
         return reportFile;
     }
+
+    public Path getReportArchiveDirectory() {
+        return reportArchiveDirectory;
+    }
+
+    public Path getMetricsFile() {
+        return metricsFile;
+    }
+
+    public Path getTraceFile() {
+        return traceFile;
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    public Path getFacilityReportFile() {
+        return facilityReportFile;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package infrastructure.file;
+
+import application.repositories.ReportRepository;
+import domain.entities.ParkingLot;
+import infrastructure.config.ReportConfig;
+import infrastructure.logging.AppLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+public final class GzipReportArchiveRepository implements ReportRepository {
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String ARCHIVE_EXTENSION = ".csv.gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FilePaths filePaths;
+    private final ReportFileMapper mapper;
+    private final ReportConfig reportConfig;
+    private final AppLogger logger;
+    private final Clock clock;
+    private final String archivePrefix;
+
+    public GzipReportArchiveRepository(
+            FilePaths filePaths,
+            ReportFileMapper mapper,
+            ReportConfig reportConfig,
+            AppLogger logger
+    ) {
+        this(filePaths, mapper, reportConfig, logger, Clock.systemDefaultZone());
+    }
+
+    public GzipReportArchiveRepository(
+            FilePaths filePaths,
+            ReportFileMapper mapper,
+            ReportConfig reportConfig,
+            AppLogger logger,
+            Clock clock
+    ) {
+        if (filePaths == null) {
+            throw new IllegalArgumentException("File paths cannot be null");
+        }
+
+        if (mapper == null) {
+            throw new IllegalArgumentException("Report file mapper cannot be null");
+        }
+
+        if (reportConfig == null) {
+            throw new IllegalArgumentException("Report config cannot be null");
+        }
+
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+
+        this.filePaths = filePaths;
+        this.mapper = mapper;
+        this.reportConfig = reportConfig;
+        this.logger = logger;
+        this.clock = clock;
+        this.archivePrefix = toArchivePrefix(filePaths.getReportFile());
+    }
+
+    @Override
+    public synchronized String generate(ParkingLot parkingLot) {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Parking lot cannot be null");
+        }
+
+        try {
+            Path archiveDirectory = ensureArchiveDirectoryExists();
+            String timestamp = LocalDateTime.now(clock).format(TIMESTAMP_FORMATTER);
+            Path archiveFile = archiveDirectory.resolve(archivePrefix + timestamp + ARCHIVE_EXTENSION);
+            Path temporaryFile = archiveFile.resolveSibling(archiveFile.getFileName() + ".tmp");
+
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+                 GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+                 Writer writer = new BufferedWriter(
+                         new OutputStreamWriter(gzipStream, StandardCharsets.UTF_8),
+                         BUFFER_SIZE
+                 )) {
+                mapper.writeCsv(parkingLot, writer);
+            }
+
+            moveIntoPlace(temporaryFile, archiveFile);
+            rotate(archiveDirectory);
+
+            logger.info("Archived parking report at " + archiveFile);
+            return archiveFile.toString();
+        } catch (IOException exception) {
+            logger.error("Failed to archive parking report", exception);
+            return "";
+        } catch (Exception exception) {
+            logger.error("Unexpected error while archiving parking report", exception);
+            return "";
+        }
+    }
+
+    @Override
+    public boolean exists(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return false;
+        }
+
+        try {
+            return Files.isRegularFile(Paths.get(filePath.trim()));
+        } catch (Exception exception) {
+            logger.warn("Failed to check archived report " + filePath + ": " + exception.getMessage());
+            return false;
+        }
+    }
+
+    private void rotate(Path archiveDirectory) throws IOException {
+        List<Path> archives = listArchives(archiveDirectory);
+        archives.sort(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed());
+
+        Instant oldestAllowed = clock.instant().minus(Duration.ofDays(reportConfig.getArchiveMaxAgeDays()));
+
+        for (int index = 0; index < archives.size(); index++) {
+            Path archive = archives.get(index);
+
+            if (index >= reportConfig.getArchiveMaxFiles() || isOlderThan(archive, oldestAllowed)) {
+                deleteArchive(archive);
+            }
+        }
+    }
+
+    private List<Path> listArchives(Path archiveDirectory) throws IOException {
+        List<Path> archives = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(archiveDirectory, archivePrefix + "*" + ARCHIVE_EXTENSION)) {
+            for (Path path : stream) {
+                if (Files.isRegularFile(path)) {
+                    archives.add(path);
+                }
+            }
+        }
+
+        return archives;
+    }
+
+    private boolean isOlderThan(Path archive, Instant oldestAllowed) {
+        try {
+            return Files.getLastModifiedTime(archive).toInstant().isBefore(oldestAllowed);
+        } catch (IOException exception) {
+            logger.warn("Failed to read archived report age: " + archive);
+            return false;
+        }
+    }
+
+    private void deleteArchive(Path archive) {
+        try {
+            Files.deleteIfExists(archive);
+            logger.info("Removed rotated parking report " + archive);
+        } catch (IOException exception) {
+            logger.warn("Failed to remove rotated parking report " + archive + ": " + exception.getMessage());
+        }
+    }
+
+    private void moveIntoPlace(Path temporaryFile, Path targetFile) throws IOException {
+        try {
+            Files.move(
+                    temporaryFile,
+                    targetFile,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            logger.warn("Atomic file move is not supported. Falling back to regular replace.");
+            Files.move(
+                    temporaryFile,
+                    targetFile,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path ensureArchiveDirectoryExists() throws IOException {
+        Path archiveDirectory = filePaths.getReportArchiveDirectory();
+
+        if (!Files.exists(archiveDirectory)) {
+            Files.createDirectories(archiveDirectory);
+            logger.info("Created report archive directory at " + archiveDirectory);
+        }
+
+        return archiveDirectory;
+    }
+
+    private static String toArchivePrefix(Path reportFile) {
+        String fileName = reportFile.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+
+        return baseName + "-";
+    }
+}
@@ -1,5 +1,7 @@
 package infrastructure.file;
 
+import application.metrics.MetricsRegistry;
+import application.tracing.Tracer;
 import domain.entities.Car;
 import domain.entities.ParkingLot;
 import domain.entities.ParkingSlot;
@@ -16,16 +18,56 @@ public final class ParkingLotFileMapper {
     private static final Pattern PARKING_LOT_LINE_PATTERN = Pattern.compile("\\((\\d+),\\s*(.*?)\\)");
 
     private final AppLogger logger;
+    private final MetricsRegistry metrics;
+    private final Tracer tracer;
 
     public ParkingLotFileMapper(AppLogger logger) {
+        this(logger, MetricsRegistry.disabled());
+    }
+
+    public ParkingLotFileMapper(AppLogger logger, MetricsRegistry metrics) {
+        this(logger, metrics, Tracer.disabled());
+    }
+
+    public ParkingLotFileMapper(AppLogger logger, MetricsRegistry metrics, Tracer tracer) {
         if (logger == null) {
             throw new IllegalArgumentException("Logger cannot be null");
         }
 
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
         this.logger = logger;
+        this.metrics = metrics;
+        this.tracer = tracer;
     }
 
     public ParkingLot fromLines(List<String> lines, int size) {
+        long startNanos = metrics.startTimer();
+
+        try {
+            return tracer.trace("mapper.parse", () -> parseLines(lines, size));
+        } finally {
+            metrics.recordSince("mapper.parse", startNanos);
+        }
+    }
+
+    public List<String> toLines(ParkingLot parkingLot) {
+        long startNanos = metrics.startTimer();
+
+        try {
+            return tracer.trace("mapper.serialize", () -> serialize(parkingLot));
+        } finally {
+            metrics.recordSince("mapper.serialize", startNanos);
+        }
+    }
+
+    private ParkingLot parseLines(List<String> lines, int size) {
         ParkingLot parkingLot = new ParkingLot(size);
 
         if (lines == null || lines.isEmpty()) {
@@ -34,50 +76,61 @@ public final class ParkingLotFileMapper {
         }
 
         if (lines.size() != size) {
-            logger.warn("Parking lot file line count mismatch. Expected " + size + " but found " + lines.size());
+            logger.warn(() -> "Parking lot file line count mismatch. Expected " + size + " but found " + lines.size());
             return parkingLot;
         }
 
         for (int index = 0; index < lines.size(); index++) {
-            String line = normalize(lines.get(index));
+            ParkingSlot slot = parseSlotLine(lines.get(index), index + 1, size);
 
-            if (line.isEmpty()) {
-                logger.warn("Empty parking lot file line at " + (index + 1) + ". Initializing empty parking lot.");
+            if (slot == null) {
                 return new ParkingLot(size);
             }
 
-            Matcher matcher = PARKING_LOT_LINE_PATTERN.matcher(line);
-
-            if (!matcher.matches()) {
-                logger.warn("Invalid parking lot file format at line " + (index + 1) + ": " + line);
-                return new ParkingLot(size);
+            if (slot.isOccupied()) {
+                parkingLot.setSlot(slot.getNumber(), slot);
             }
+        }
 
-            int slotNumber = parseSlotNumber(matcher.group(1), index + 1, size);
+        return parkingLot;
+    }
 
-            if (slotNumber == -1) {
-                return new ParkingLot(size);
-            }
+    public ParkingSlot parseSlotLine(String rawLine, int lineNumber, int size) {
+        String line = normalize(rawLine);
 
-            String content = normalize(matcher.group(2));
+        if (line.isEmpty()) {
+            logger.warn(() -> "Empty parking lot file line at " + lineNumber + ". Initializing empty parking lot.");
+            return null;
+        }
 
-            if (EMPTY_SLOT_VALUE.equalsIgnoreCase(content)) {
-                continue;
-            }
+        Matcher matcher = PARKING_LOT_LINE_PATTERN.matcher(line);
 
-            try {
-                LicensePlate licensePlate = LicensePlate.of(content);
-                parkingLot.setSlot(slotNumber, createOccupiedSlot(slotNumber, licensePlate));
-            } catch (Exception exception) {
-                logger.warn("Invalid license plate in parking data at line " + (index + 1) + ". Initializing empty lot.");
-                return new ParkingLot(size);
-            }
+        if (!matcher.matches()) {
+            logger.warn(() -> "Invalid parking lot file format at line " + lineNumber + ": " + line);
+            return null;
         }
 
-        return parkingLot;
+        int slotNumber = parseSlotNumber(matcher.group(1), lineNumber, size);
+
+        if (slotNumber == -1) {
+            return null;
+        }
+
+        String content = normalize(matcher.group(2));
+
+        if (EMPTY_SLOT_VALUE.equalsIgnoreCase(content)) {
+            return new ParkingSlot(slotNumber);
+        }
+
+        try {
+            return createOccupiedSlot(slotNumber, LicensePlate.of(content));
+        } catch (Exception exception) {
+            logger.warn(() -> "Invalid license plate in parking data at line " + lineNumber + ". Initializing empty lot.");
+            return null;
+        }
     }
 
-    public List<String> toLines(ParkingLot parkingLot) {
+    private List<String> serialize(ParkingLot parkingLot) {
         if (parkingLot == null) {
             throw new IllegalArgumentException("Parking lot cannot be null");
         }
@@ -114,13 +167,13 @@ public final class ParkingLotFileMapper {
             int slotNumber = Integer.parseInt(value);
 
             if (slotNumber < 1 || slotNumber > size) {
-                logger.warn("Slot number out of range at line " + lineNumber + ": " + slotNumber);
+                logger.warn(() -> "Slot number out of range at line " + lineNumber + ": " + slotNumber);
                 return -1;
             }
 
             return slotNumber;
         } catch (NumberFormatException exception) {
-            logger.warn("Invalid slot number at line " + lineNumber + ": " + value);
+            logger.warn(() -> "Invalid slot number at line " + lineNumber + ": " + value);
             return -1;
         }
     }
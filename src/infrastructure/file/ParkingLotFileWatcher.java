@@ -0,0 +1,319 @@
+package infrastructure.file;
+
+import application.dto.ExternalSlotChanges;
+import application.dto.SlotViewData;
+import domain.entities.ParkingSlot;
+import infrastructure.logging.AppLogger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public final class ParkingLotFileWatcher {
+    private static final int MAX_DEBOUNCE_ROUNDS = 20;
+
+    private final FilePaths filePaths;
+    private final ParkingLotFileMapper mapper;
+    private final AppLogger logger;
+    private final int parkingLotSize;
+    private final long debounceMillis;
+    private final Listener listener;
+    private final String[] knownLines;
+    private final String[] knownPlates;
+    private final BitSet occupiedSlots;
+
+    private boolean knownLinesValid;
+    private long baselineGeneration;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public ParkingLotFileWatcher(
+            FilePaths filePaths,
+            ParkingLotFileMapper mapper,
+            AppLogger logger,
+            int parkingLotSize,
+            long debounceMillis,
+            Listener listener
+    ) {
+        if (filePaths == null) {
+            throw new IllegalArgumentException("File paths cannot be null");
+        }
+
+        if (mapper == null) {
+            throw new IllegalArgumentException("Parking lot file mapper cannot be null");
+        }
+
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (debounceMillis <= 0) {
+            throw new IllegalArgumentException("Debounce delay must be greater than zero");
+        }
+
+        if (listener == null) {
+            throw new IllegalArgumentException("Watcher listener cannot be null");
+        }
+
+        this.filePaths = filePaths;
+        this.mapper = mapper;
+        this.logger = logger;
+        this.parkingLotSize = parkingLotSize;
+        this.debounceMillis = debounceMillis;
+        this.listener = listener;
+        this.knownLines = new String[parkingLotSize];
+        this.knownPlates = new String[parkingLotSize];
+        this.occupiedSlots = new BitSet(parkingLotSize + 1);
+        Arrays.fill(knownPlates, "");
+    }
+
+    public synchronized void start() {
+        if (watchThread != null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(filePaths.getDataDirectory());
+            watchService = FileSystems.getDefault().newWatchService();
+            filePaths.getDataDirectory().register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+            );
+        } catch (IOException exception) {
+            logger.error("Failed to watch the parking data directory. External changes will not be shown", exception);
+            closeWatchService();
+            return;
+        }
+
+        readLines().ifPresent(this::rememberLines);
+
+        WatchService service = watchService;
+        watchThread = new Thread(() -> watch(service), "parking-lot-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    public synchronized void stop() {
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+
+        closeWatchService();
+    }
+
+    public synchronized void recordWrittenLines(List<String> lines) {
+        baselineGeneration++;
+
+        if (lines == null || lines.size() != parkingLotSize) {
+            knownLinesValid = false;
+            return;
+        }
+
+        if (applyLines(lines, new HashSet<>()) == null) {
+            knownLinesValid = false;
+        }
+    }
+
+    private void checkForChanges() {
+        long readGeneration = currentBaselineGeneration();
+        Optional<List<String>> lines = readLines();
+
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        ExternalSlotChanges changes;
+        boolean reloadRequired;
+
+        synchronized (this) {
+            if (baselineGeneration != readGeneration) {
+                return;
+            }
+
+            boolean wasValid = knownLinesValid;
+            Set<Integer> replacedSlots = new HashSet<>();
+            List<SlotViewData> changedSlots = lines.get().size() == parkingLotSize ? applyLines(lines.get(), replacedSlots) : null;
+
+            if (changedSlots == null) {
+                knownLinesValid = false;
+                reloadRequired = true;
+                changes = null;
+            } else if (!wasValid) {
+                reloadRequired = true;
+                changes = null;
+            } else {
+                reloadRequired = false;
+                changes = changedSlots.isEmpty()
+                        ? null
+                        : new ExternalSlotChanges(parkingLotSize, occupiedSlots.cardinality(), changedSlots, replacedSlots);
+            }
+        }
+
+        if (reloadRequired) {
+            logger.info("Parking data file changed outside the application. Reloading all slots.");
+            listener.onReloadRequired();
+        } else if (changes != null) {
+            logger.info(() -> "Parking data file changed outside the application. " + changes.getChangedSlots().size() + " slot(s) changed.");
+            listener.onSlotsChanged(changes);
+        }
+    }
+
+    private synchronized long currentBaselineGeneration() {
+        return baselineGeneration;
+    }
+
+    private void watch(WatchService service) {
+        String fileName = filePaths.getParkingLotFile().getFileName().toString();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+
+                if (!drainEvents(key, fileName)) {
+                    continue;
+                }
+
+                waitUntilQuiet(service, fileName);
+
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+
+                checkForChanges();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException exception) {
+            return;
+        } catch (RuntimeException exception) {
+            logger.error("Parking data file watcher stopped unexpectedly", exception);
+        }
+    }
+
+    private void waitUntilQuiet(WatchService service, String fileName) throws InterruptedException {
+        for (int round = 0; round < MAX_DEBOUNCE_ROUNDS; round++) {
+            WatchKey key = service.poll(debounceMillis, TimeUnit.MILLISECONDS);
+
+            if (key == null) {
+                return;
+            }
+
+            drainEvents(key, fileName);
+        }
+    }
+
+    private boolean drainEvents(WatchKey key, String fileName) {
+        boolean relevant = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+                continue;
+            }
+
+            Object context = event.context();
+
+            if (context instanceof Path path && path.toString().equals(fileName)) {
+                relevant = true;
+            }
+        }
+
+        key.reset();
+        return relevant;
+    }
+
+    private Optional<List<String>> readLines() {
+        Path parkingLotFile = filePaths.getParkingLotFile();
+
+        if (!Files.exists(parkingLotFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readAllLines(parkingLotFile));
+        } catch (IOException exception) {
+            if (!Thread.currentThread().isInterrupted()) {
+                logger.warn(() -> "Failed to read changed parking data file: " + exception.getMessage());
+            }
+
+            return Optional.empty();
+        }
+    }
+
+    private void rememberLines(List<String> lines) {
+        synchronized (this) {
+            knownLinesValid = lines.size() == parkingLotSize && applyLines(lines, new HashSet<>()) != null;
+        }
+    }
+
+    private List<SlotViewData> applyLines(List<String> lines, Set<Integer> replacedSlots) {
+        List<SlotViewData> changedSlots = new ArrayList<>();
+
+        for (int index = 0; index < parkingLotSize; index++) {
+            String line = lines.get(index);
+
+            if (line.equals(knownLines[index])) {
+                continue;
+            }
+
+            ParkingSlot slot = mapper.parseSlotLine(line, index + 1, parkingLotSize);
+
+            if (slot == null || slot.getNumber() != index + 1) {
+                return null;
+            }
+
+            String licensePlate = slot.isOccupied() ? slot.getCar().getLicensePlate() : "";
+
+            if (slot.isOccupied() && !knownPlates[index].isEmpty() && !knownPlates[index].equals(licensePlate)) {
+                replacedSlots.add(slot.getNumber());
+            }
+
+            knownLines[index] = line;
+            knownPlates[index] = licensePlate;
+            occupiedSlots.set(slot.getNumber(), slot.isOccupied());
+            changedSlots.add(new SlotViewData(slot.getNumber(), slot.getStatus(), licensePlate));
+        }
+
+        knownLinesValid = true;
+        return changedSlots;
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException exception) {
+            logger.warn("Failed to close parking data file watcher: " + exception.getMessage());
+        }
+
+        watchService = null;
+    }
+
+    public interface Listener {
+        void onSlotsChanged(ExternalSlotChanges changes);
+
+        void onReloadRequired();
+    }
+}
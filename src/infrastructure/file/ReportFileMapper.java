@@ -3,13 +3,18 @@ package infrastructure.file;
 import domain.entities.ParkingLot;
 import domain.entities.ParkingSlot;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public final class ReportFileMapper {
     private static final String REPORT_HEADER = "Slot Number,Status,License Plate";
+    private static final String FACILITY_REPORT_HEADER = "Lot," + REPORT_HEADER;
     private static final String STATUS_OCCUPIED = "Occupied";
     private static final String STATUS_EMPTY = "Empty";
+    private static final int MAX_FIXED_WIDTH_PLATE_LENGTH = 16;
 
     public List<String> toCsvLines(ParkingLot parkingLot) {
         if (parkingLot == null) {
@@ -26,6 +31,82 @@ public final class ReportFileMapper {
         return lines;
     }
 
+    public String getHeader() {
+        return REPORT_HEADER;
+    }
+
+    public int getFixedWidthRowLength(int parkingLotSize) {
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        int slotNumberWidth = String.valueOf(parkingLotSize).length();
+        int statusWidth = Math.max(STATUS_OCCUPIED.length(), STATUS_EMPTY.length());
+
+        return slotNumberWidth + 1 + statusWidth + 1 + MAX_FIXED_WIDTH_PLATE_LENGTH;
+    }
+
+    public List<String> toFixedWidthCsvRows(ParkingLot parkingLot) {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Parking lot cannot be null");
+        }
+
+        int rowLength = getFixedWidthRowLength(parkingLot.getSize());
+        List<String> rows = new ArrayList<>(parkingLot.getSize());
+
+        for (ParkingSlot slot : parkingLot.getSlots()) {
+            rows.add(padRow(toCsvLine(slot), rowLength));
+        }
+
+        return rows;
+    }
+
+    public void writeCsv(ParkingLot parkingLot, Writer writer) throws IOException {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Parking lot cannot be null");
+        }
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Report writer cannot be null");
+        }
+
+        writer.write(REPORT_HEADER);
+        writer.write(System.lineSeparator());
+
+        for (ParkingSlot slot : parkingLot.getSlots()) {
+            writer.write(toCsvLine(slot));
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    public void writeFacilityCsv(Map<String, ParkingLot> parkingLotsByName, Writer writer) throws IOException {
+        if (parkingLotsByName == null) {
+            throw new IllegalArgumentException("Parking lots cannot be null");
+        }
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Report writer cannot be null");
+        }
+
+        writer.write(FACILITY_REPORT_HEADER);
+        writer.write(System.lineSeparator());
+
+        for (Map.Entry<String, ParkingLot> entry : parkingLotsByName.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Parking lot cannot be null");
+            }
+
+            String lotName = escapeCsvValue(entry.getKey());
+
+            for (ParkingSlot slot : entry.getValue().getSlots()) {
+                writer.write(lotName);
+                writer.write(',');
+                writer.write(toCsvLine(slot));
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
     private String toCsvLine(ParkingSlot slot) {
         if (slot == null) {
             throw new IllegalArgumentException("Parking slot cannot be null");
@@ -37,6 +118,21 @@ public final class ReportFileMapper {
         return slot.getNumber() + "," + status + "," + licensePlate;
     }
 
+    private String padRow(String row, int rowLength) {
+        if (row.length() > rowLength) {
+            throw new IllegalStateException("Report row exceeds fixed width of " + rowLength + " characters");
+        }
+
+        StringBuilder builder = new StringBuilder(rowLength);
+        builder.append(row);
+
+        while (builder.length() < rowLength) {
+            builder.append(' ');
+        }
+
+        return builder.toString();
+    }
+
     private String escapeCsvValue(String value) {
         if (value == null || value.isEmpty()) {
             return "";
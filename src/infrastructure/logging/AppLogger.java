@@ -1,5 +1,7 @@
 package infrastructure.logging;
 
+import java.util.function.Supplier;
+
 public interface AppLogger {
     void info(String message);
 
@@ -8,4 +10,29 @@ public interface AppLogger {
     void error(String message);
 
     void error(String message, Throwable throwable);
-}
\ No newline at end of file
+
+    default boolean isEnabled(LogLevel level) {
+        return level != LogLevel.DEBUG;
+    }
+
+    default void debug(String message) {
+    }
+
+    default void debug(Supplier<String> message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            debug(message.get());
+        }
+    }
+
+    default void info(Supplier<String> message) {
+        if (isEnabled(LogLevel.INFO)) {
+            info(message.get());
+        }
+    }
+
+    default void warn(Supplier<String> message) {
+        if (isEnabled(LogLevel.WARN)) {
+            warn(message.get());
+        }
+    }
+}
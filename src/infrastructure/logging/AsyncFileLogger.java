@@ -0,0 +1,336 @@
+package infrastructure.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+public final class AsyncFileLogger implements AppLogger, AutoCloseable {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+    private static final String THREAD_NAME = "async-logger";
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final LogLevel threshold;
+    private final Path logFile;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final boolean consoleOutput;
+    private final int capacity;
+    private final AtomicReferenceArray<LogEvent> slots;
+    private final AtomicLong claimSequence;
+    private final AtomicLong droppedCount;
+    private final Thread drainer;
+
+    private volatile long consumeSequence;
+    private volatile boolean closed;
+    private volatile boolean drainerWaiting;
+
+    private BufferedWriter writer;
+    private long currentFileBytes;
+
+    public AsyncFileLogger(
+            LogLevel threshold,
+            Path logFile,
+            long maxFileBytes,
+            int maxFiles,
+            int capacity,
+            boolean consoleOutput
+    ) {
+        if (logFile == null) {
+            throw new IllegalArgumentException("Log file cannot be null");
+        }
+
+        if (maxFileBytes <= 0) {
+            throw new IllegalArgumentException("Maximum log file size must be greater than zero");
+        }
+
+        if (maxFiles <= 0) {
+            throw new IllegalArgumentException("Maximum log file count must be greater than zero");
+        }
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log buffer capacity must be greater than zero");
+        }
+
+        this.threshold = threshold == null ? LogLevel.INFO : threshold;
+        this.logFile = logFile;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.consoleOutput = consoleOutput;
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.claimSequence = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.drainer = new Thread(this::drain, THREAD_NAME);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return threshold.includes(level);
+    }
+
+    @Override
+    public void debug(String message) {
+        publish(LogLevel.DEBUG, message, null);
+    }
+
+    @Override
+    public void info(String message) {
+        publish(LogLevel.INFO, message, null);
+    }
+
+    @Override
+    public void warn(String message) {
+        publish(LogLevel.WARN, message, null);
+    }
+
+    @Override
+    public void error(String message) {
+        publish(LogLevel.ERROR, message, null);
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        publish(LogLevel.ERROR, message, throwable);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        LockSupport.unpark(drainer);
+
+        try {
+            drainer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(LogLevel level, String message, Throwable throwable) {
+        if (!threshold.includes(level) || closed) {
+            return;
+        }
+
+        LogEvent event = new LogEvent(System.currentTimeMillis(), level, message, throwable);
+
+        while (true) {
+            long sequence = claimSequence.get();
+
+            if (sequence - consumeSequence >= capacity) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+
+            if (claimSequence.compareAndSet(sequence, sequence + 1)) {
+                slots.set(index(sequence), event);
+
+                if (drainerWaiting) {
+                    LockSupport.unpark(drainer);
+                }
+
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        long sequence = 0L;
+
+        try {
+            while (true) {
+                LogEvent event = slots.get(index(sequence));
+
+                if (event != null) {
+                    slots.set(index(sequence), null);
+                    sequence++;
+                    consumeSequence = sequence;
+                    write(event);
+                    continue;
+                }
+
+                flush();
+
+                if (closed && sequence == claimSequence.get()) {
+                    break;
+                }
+
+                awaitEvent(sequence);
+            }
+
+            reportDroppedEvents();
+        } finally {
+            closeWriter();
+        }
+    }
+
+    private void awaitEvent(long sequence) {
+        drainerWaiting = true;
+
+        try {
+            if (slots.get(index(sequence)) == null && !closed) {
+                LockSupport.park(this);
+            }
+        } finally {
+            drainerWaiting = false;
+        }
+    }
+
+    private void write(LogEvent event) {
+        String line = format(event);
+
+        if (consoleOutput) {
+            PrintStream stream = event.level == LogLevel.ERROR ? System.err : System.out;
+            stream.println(line);
+        }
+
+        try {
+            BufferedWriter output = openWriter(line.length() + System.lineSeparator().length());
+            output.write(line);
+            output.newLine();
+            currentFileBytes += line.length() + System.lineSeparator().length();
+        } catch (IOException exception) {
+            System.err.println("Failed to write log file " + logFile + ": " + exception.getMessage());
+            closeWriter();
+        }
+    }
+
+    private String format(LogEvent event) {
+        StringBuilder builder = new StringBuilder(64 + (event.message == null ? 0 : event.message.length()));
+
+        builder.append('[')
+                .append(FORMATTER.format(Instant.ofEpochMilli(event.timestampMillis)))
+                .append("] ")
+                .append(event.level.name())
+                .append(": ")
+                .append(LogRedactor.redact(event.message));
+
+        if (event.throwable != null) {
+            builder.append(" Cause: ").append(LogRedactor.redact(event.throwable.getMessage()));
+        }
+
+        return builder.toString();
+    }
+
+    private BufferedWriter openWriter(int nextLineBytes) throws IOException {
+        if (writer != null && currentFileBytes + nextLineBytes > maxFileBytes) {
+            closeWriter();
+            roll();
+        }
+
+        if (writer == null) {
+            Path directory = logFile.toAbsolutePath().getParent();
+
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+
+            writer = Files.newBufferedWriter(
+                    logFile,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+            );
+            currentFileBytes = Files.size(logFile);
+        }
+
+        return writer;
+    }
+
+    private void roll() throws IOException {
+        Files.deleteIfExists(rolledFile(maxFiles - 1));
+
+        for (int index = maxFiles - 2; index >= 1; index--) {
+            Path source = rolledFile(index);
+
+            if (Files.exists(source)) {
+                Files.move(source, rolledFile(index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        if (maxFiles > 1 && Files.exists(logFile)) {
+            Files.move(logFile, rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    private Path rolledFile(int index) {
+        return logFile.resolveSibling(logFile.getFileName() + "." + index);
+    }
+
+    private void flush() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.flush();
+        } catch (IOException exception) {
+            System.err.println("Failed to flush log file " + logFile + ": " + exception.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void reportDroppedEvents() {
+        long dropped = droppedCount.get();
+
+        if (dropped > 0) {
+            write(new LogEvent(System.currentTimeMillis(), LogLevel.WARN, "Dropped " + dropped + " log event(s) because the log buffer was full", null));
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException exception) {
+            System.err.println("Failed to close log file " + logFile + ": " + exception.getMessage());
+        } finally {
+            writer = null;
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private static final class LogEvent {
+        private final long timestampMillis;
+        private final LogLevel level;
+        private final String message;
+        private final Throwable throwable;
+
+        private LogEvent(long timestampMillis, LogLevel level, String message, Throwable throwable) {
+            this.timestampMillis = timestampMillis;
+            this.level = level;
+            this.message = message;
+            this.throwable = throwable;
+        }
+    }
+}
@@ -46,14 +46,6 @@ public final class ConsoleLogger implements AppLogger {
     }
 
     private String sanitize(String message) {
-        if (message == null || message.trim().isEmpty()) {
-            return "No message provided";
-        }
-
-        return message
-                .replaceAll("(?i)(password\\s*=\\s*)[^\\s]+", "$1[REDACTED]")
-                .replaceAll("(?i)(token\\s*=\\s*)[^\\s]+", "$1[REDACTED]")
-                .replaceAll("(?i)(secret\\s*=\\s*)[^\\s]+", "$1[REDACTED]")
-                .replaceAll("(?i)(key\\s*=\\s*)[^\\s]+", "$1[REDACTED]");
+        return LogRedactor.redact(message);
     }
 }
\ No newline at end of file
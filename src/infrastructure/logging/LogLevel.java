@@ -0,0 +1,22 @@
+package infrastructure.logging;
+
+import java.util.Locale;
+
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    public static LogLevel parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return INFO;
+        }
+
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean includes(LogLevel level) {
+        return level != null && level.ordinal() >= ordinal();
+    }
+}
@@ -0,0 +1,32 @@
+package infrastructure.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class LogRedactor {
+    private static final String EMPTY_MESSAGE = "No message provided";
+    private static final Pattern SENSITIVE_VALUE_PATTERN = Pattern.compile(
+            "(?i)((?:password|token|secret|key)\\s*=\\s*)\\S+"
+    );
+
+    private LogRedactor() {
+    }
+
+    static String redact(String message) {
+        if (message == null || message.trim().isEmpty()) {
+            return EMPTY_MESSAGE;
+        }
+
+        if (message.indexOf('=') < 0) {
+            return message;
+        }
+
+        Matcher matcher = SENSITIVE_VALUE_PATTERN.matcher(message);
+
+        if (!matcher.find()) {
+            return message;
+        }
+
+        return matcher.replaceAll("$1[REDACTED]");
+    }
+}
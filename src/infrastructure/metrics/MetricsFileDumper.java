@@ -0,0 +1,164 @@
+package infrastructure.metrics;
+
+import application.metrics.HistogramSnapshot;
+import application.metrics.MetricsRegistry;
+import application.metrics.MetricsSnapshot;
+import infrastructure.config.MetricsConfig;
+import infrastructure.file.FilePaths;
+import infrastructure.logging.AppLogger;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class MetricsFileDumper {
+    private static final String THREAD_NAME = "metrics-dumper";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final MetricsRegistry metrics;
+    private final MetricsConfig metricsConfig;
+    private final FilePaths filePaths;
+    private final AppLogger logger;
+
+    private ScheduledExecutorService executor;
+
+    public MetricsFileDumper(
+            MetricsRegistry metrics,
+            MetricsConfig metricsConfig,
+            FilePaths filePaths,
+            AppLogger logger
+    ) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+
+        if (metricsConfig == null) {
+            throw new IllegalArgumentException("Metrics config cannot be null");
+        }
+
+        if (filePaths == null) {
+            throw new IllegalArgumentException("File paths cannot be null");
+        }
+
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        this.metrics = metrics;
+        this.metricsConfig = metricsConfig;
+        this.filePaths = filePaths;
+        this.logger = logger;
+    }
+
+    public synchronized void start() {
+        if (!metricsConfig.isEnabled() || !metrics.isEnabled()) {
+            return;
+        }
+
+        if (executor != null) {
+            return;
+        }
+
+        long intervalSeconds = metricsConfig.getDumpIntervalSeconds();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        executor.scheduleWithFixedDelay(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Writing metrics to " + filePaths.getMetricsFile() + " every " + intervalSeconds + " second(s).");
+    }
+
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+        dump();
+    }
+
+    public boolean dump() {
+        try {
+            Path metricsFile = filePaths.getMetricsFile();
+            Path temporaryFile = metricsFile.resolveSibling(metricsFile.getFileName() + ".tmp");
+
+            Files.createDirectories(filePaths.getDataDirectory());
+            Files.write(temporaryFile, toLines(metrics.snapshot()));
+            moveIntoPlace(temporaryFile, metricsFile);
+            return true;
+        } catch (IOException exception) {
+            logger.warn("Failed to write metrics file: " + exception.getMessage());
+            return false;
+        } catch (Exception exception) {
+            logger.error("Unexpected error while writing metrics file", exception);
+            return false;
+        }
+    }
+
+    private List<String> toLines(MetricsSnapshot snapshot) {
+        List<String> lines = new ArrayList<>();
+        lines.add("# captured " + Instant.ofEpochMilli(snapshot.getCapturedAtMillis()));
+
+        for (Map.Entry<String, Long> counter : snapshot.getCounters().entrySet()) {
+            lines.add("counter " + counter.getKey() + " " + counter.getValue());
+        }
+
+        for (Map.Entry<String, HistogramSnapshot> entry : snapshot.getHistograms().entrySet()) {
+            HistogramSnapshot histogram = entry.getValue();
+
+            lines.add(String.format(
+                    Locale.ROOT,
+                    "latency %s count=%d mean_ms=%.3f p50_ms=%.3f p95_ms=%.3f p99_ms=%.3f max_ms=%.3f",
+                    entry.getKey(),
+                    histogram.getCount(),
+                    histogram.getMeanMillis(),
+                    histogram.getPercentileMillis(50),
+                    histogram.getPercentileMillis(95),
+                    histogram.getPercentileMillis(99),
+                    histogram.getMaxMillis()
+            ));
+        }
+
+        return lines;
+    }
+
+    private void moveIntoPlace(Path temporaryFile, Path targetFile) throws IOException {
+        try {
+            Files.move(
+                    temporaryFile,
+                    targetFile,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(
+                    temporaryFile,
+                    targetFile,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package infrastructure.scheduling;
+
+import application.repositories.ParkingLotRepository;
+import application.repositories.ReportRepository;
+import domain.entities.ParkingLot;
+import infrastructure.config.ReportConfig;
+import infrastructure.logging.AppLogger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ReportScheduler {
+    private static final String THREAD_NAME = "report-scheduler";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ParkingLotRepository parkingLotRepository;
+    private final ReportRepository reportRepository;
+    private final ReportConfig reportConfig;
+    private final AppLogger logger;
+    private final int parkingLotSize;
+    private final AtomicBoolean running;
+
+    private ScheduledExecutorService executor;
+
+    public ReportScheduler(
+            ParkingLotRepository parkingLotRepository,
+            ReportRepository reportRepository,
+            ReportConfig reportConfig,
+            AppLogger logger,
+            int parkingLotSize
+    ) {
+        if (parkingLotRepository == null) {
+            throw new IllegalArgumentException("Parking lot repository cannot be null");
+        }
+
+        if (reportRepository == null) {
+            throw new IllegalArgumentException("Report repository cannot be null");
+        }
+
+        if (reportConfig == null) {
+            throw new IllegalArgumentException("Report config cannot be null");
+        }
+
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        this.parkingLotRepository = parkingLotRepository;
+        this.reportRepository = reportRepository;
+        this.reportConfig = reportConfig;
+        this.logger = logger;
+        this.parkingLotSize = parkingLotSize;
+        this.running = new AtomicBoolean(false);
+    }
+
+    public synchronized void start() {
+        if (!reportConfig.isScheduleEnabled()) {
+            logger.info("Scheduled report generation is disabled.");
+            return;
+        }
+
+        if (executor != null) {
+            return;
+        }
+
+        long intervalMinutes = reportConfig.getScheduleIntervalMinutes();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        executor.scheduleWithFixedDelay(this::runOnce, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        logger.info("Scheduled report generation every " + intervalMinutes + " minute(s).");
+    }
+
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+    }
+
+    public boolean runOnce() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Skipping scheduled report because the previous run is still in progress.");
+            return false;
+        }
+
+        try {
+            ParkingLot parkingLot = parkingLotRepository.load(parkingLotSize);
+            String filePath = reportRepository.generate(parkingLot);
+
+            if (filePath == null || filePath.trim().isEmpty()) {
+                logger.warn("Scheduled report generation did not produce a report file.");
+                return false;
+            }
+
+            return true;
+        } catch (Exception exception) {
+            logger.error("Scheduled report generation failed", exception);
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+}
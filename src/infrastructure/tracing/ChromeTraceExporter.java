@@ -0,0 +1,138 @@
+package infrastructure.tracing;
+
+import application.tracing.SpanRecord;
+import application.tracing.Tracer;
+import infrastructure.logging.AppLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ChromeTraceExporter {
+    private static final int PROCESS_ID = 1;
+
+    private final AppLogger logger;
+
+    public ChromeTraceExporter(AppLogger logger) {
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+
+        this.logger = logger;
+    }
+
+    public boolean export(Tracer tracer, Path traceFile) {
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
+        if (traceFile == null) {
+            throw new IllegalArgumentException("Trace file cannot be null");
+        }
+
+        if (!tracer.isEnabled()) {
+            return false;
+        }
+
+        List<SpanRecord> spans = tracer.snapshot();
+
+        try {
+            Path parent = traceFile.toAbsolutePath().getParent();
+
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (Writer writer = Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8)) {
+                write(spans, writer);
+            }
+
+            logger.info("Exported " + spans.size() + " trace span(s) to " + traceFile);
+            return true;
+        } catch (IOException exception) {
+            logger.warn("Failed to export trace to " + traceFile + ": " + exception.getMessage());
+            return false;
+        }
+    }
+
+    public void write(List<SpanRecord> spans, Writer writer) throws IOException {
+        Writer output = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        Map<Long, String> threadNames = new HashMap<>();
+        boolean first = true;
+
+        output.write("{\"traceEvents\":[");
+
+        for (SpanRecord span : spans) {
+            threadNames.putIfAbsent(span.getThreadId(), span.getThreadName());
+
+            first = writeSeparator(output, first);
+            output.write("{\"name\":\"");
+            output.write(escape(span.getName()));
+            output.write("\",\"cat\":\"");
+            output.write(escape(categoryOf(span.getName())));
+            output.write("\",\"ph\":\"X\",\"pid\":" + PROCESS_ID);
+            output.write(",\"tid\":" + span.getThreadId());
+            output.write(",\"ts\":" + span.getStartMicros());
+            output.write(",\"dur\":" + span.getDurationMicros());
+            output.write(",\"args\":{\"id\":" + span.getId() + ",\"parent\":" + span.getParentId() + "}}");
+        }
+
+        for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+            first = writeSeparator(output, first);
+            output.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID);
+            output.write(",\"tid\":" + thread.getKey());
+            output.write(",\"args\":{\"name\":\"" + escape(thread.getValue()) + "\"}}");
+        }
+
+        output.write("],\"displayTimeUnit\":\"ms\"}");
+        output.flush();
+    }
+
+    private boolean writeSeparator(Writer output, boolean first) throws IOException {
+        if (!first) {
+            output.write(",\n");
+        }
+
+        return false;
+    }
+
+    private String categoryOf(String name) {
+        int separatorIndex = name.indexOf('.');
+        return separatorIndex > 0 ? name.substring(0, separatorIndex) : name;
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+}
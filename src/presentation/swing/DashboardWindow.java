@@ -0,0 +1,23 @@
+package presentation.swing;
+
+import presentation.swing.panels.DashboardPanel;
+
+import javax.swing.JFrame;
+import java.awt.BorderLayout;
+
+public final class DashboardWindow extends JFrame {
+    private static final int WINDOW_WIDTH = 520;
+    private static final int WINDOW_HEIGHT = 480;
+
+    public DashboardWindow(String appTitle, DashboardPanel dashboardPanel) {
+        if (dashboardPanel == null) {
+            throw new IllegalArgumentException("Dashboard panel cannot be null");
+        }
+
+        setTitle(appTitle == null || appTitle.trim().isEmpty() ? "Dashboard" : appTitle.trim() + " - Dashboard");
+        setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout());
+        add(dashboardPanel, BorderLayout.CENTER);
+    }
+}
@@ -1,13 +1,18 @@
 package presentation.swing;
 
+import application.dto.ParkingLotDelta;
 import application.dto.ParkingLotViewData;
 import infrastructure.logging.AppLogger;
+import presentation.swing.components.HighlightAnimator;
+import presentation.swing.components.SlotSelectionModel;
 import presentation.swing.dialogs.MessageBox;
 import presentation.swing.panels.BatchPanel;
 import presentation.swing.panels.HelpPanel;
 import presentation.swing.panels.ParkPanel;
 import presentation.swing.panels.SearchPanel;
+import presentation.swing.panels.SlotGridView;
 import presentation.swing.panels.SlotPanel;
+import presentation.swing.panels.VirtualSlotPanel;
 import presentation.swing.resources.IconUtil;
 
 import javax.swing.BorderFactory;
@@ -20,13 +25,17 @@ import javax.swing.JScrollPane;
 import javax.swing.SwingConstants;
 import javax.swing.Timer;
 import java.awt.BorderLayout;
+import java.awt.Cursor;
+import java.util.List;
 
 public final class ParkingView extends JFrame {
     private static final String READY_STATUS = "Ready";
+    private static final String BUSY_STATUS = "Working...";
     private static final int WINDOW_WIDTH = 600;
     private static final int WINDOW_HEIGHT = 700;
     private static final int STATUS_CLEAR_DELAY_MILLISECONDS = 5000;
     private static final int PANEL_SPACING = 10;
+    private static final int VIRTUAL_GRID_THRESHOLD = 200;
 
     private final ParkingViewController controller;
     private final IconUtil iconUtil;
@@ -35,7 +44,7 @@ public final class ParkingView extends JFrame {
     private final Timer statusTimer;
 
     private JLabel statusBar;
-    private SlotPanel slotPanel;
+    private SlotGridView slotPanel;
     private ParkPanel parkPanel;
 
     public ParkingView(
@@ -83,12 +92,26 @@ public final class ParkingView extends JFrame {
         }
     }
 
+    public boolean applyParkingLotDelta(ParkingLotDelta delta) {
+        if (slotPanel == null) {
+            return false;
+        }
+
+        return slotPanel.applyDelta(delta);
+    }
+
     public void highlightSlot(int slotNumber) {
         if (slotPanel != null) {
             slotPanel.highlightSlot(slotNumber);
         }
     }
 
+    public void highlightSlots(List<Integer> slotNumbers) {
+        if (slotPanel != null) {
+            slotPanel.highlightSlots(slotNumbers);
+        }
+    }
+
     public void showInfo(String message) {
         messageBox.showInfo(message);
         setStatus(message);
@@ -107,6 +130,17 @@ public final class ParkingView extends JFrame {
         }
     }
 
+    public void setBusy(boolean busy) {
+        setCursor(Cursor.getPredefinedCursor(busy ? Cursor.WAIT_CURSOR : Cursor.DEFAULT_CURSOR));
+
+        if (busy) {
+            statusTimer.stop();
+            setStatus(BUSY_STATUS);
+        } else if (statusBar != null && BUSY_STATUS.equals(statusBar.getText())) {
+            setStatus(READY_STATUS);
+        }
+    }
+
     public void focusParkInput() {
         if (parkPanel != null && parkPanel.getPlateInput() != null) {
             parkPanel.getPlateInput().requestFocusInWindow();
@@ -133,10 +167,14 @@ public final class ParkingView extends JFrame {
         statusBar = new JLabel(READY_STATUS, SwingConstants.CENTER);
         statusBar.setBorder(BorderFactory.createEmptyBorder(10, 0, 10, 0));
 
-        slotPanel = new SlotPanel(controller, iconUtil, parkingLotSize);
+        HighlightAnimator highlightAnimator = new HighlightAnimator();
+        SlotSelectionModel selectionModel = new SlotSelectionModel(parkingLotSize);
+        slotPanel = parkingLotSize > VIRTUAL_GRID_THRESHOLD
+                ? new VirtualSlotPanel(controller, highlightAnimator, selectionModel, parkingLotSize)
+                : new SlotPanel(controller, iconUtil, highlightAnimator, selectionModel, parkingLotSize);
         parkPanel = new ParkPanel(controller, iconUtil);
         SearchPanel searchPanel = new SearchPanel(controller, iconUtil);
-        BatchPanel batchPanel = new BatchPanel(controller, slotPanel, iconUtil);
+        BatchPanel batchPanel = new BatchPanel(controller, selectionModel, iconUtil);
         HelpPanel helpPanel = new HelpPanel(iconUtil, messageBox, logger);
 
         JPanel controlPanel = new JPanel();
@@ -152,7 +190,7 @@ public final class ParkingView extends JFrame {
         controlPanel.add(helpPanel);
 
         add(controlPanel, BorderLayout.NORTH);
-        add(new JScrollPane(slotPanel), BorderLayout.CENTER);
+        add(new JScrollPane(slotPanel.asComponent()), BorderLayout.CENTER);
         add(statusBar, BorderLayout.SOUTH);
     }
 
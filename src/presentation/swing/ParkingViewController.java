@@ -3,6 +3,7 @@ package presentation.swing;
 import application.dto.BatchUnparkRequest;
 import application.dto.BatchUnparkResponse;
 import application.dto.ErrorResponse;
+import application.dto.ExternalSlotChanges;
 import application.dto.FindCarRequest;
 import application.dto.FindCarResponse;
 import application.dto.GenerateReportResponse;
@@ -10,30 +11,55 @@ import application.dto.LoadParkingDataResponse;
 import application.dto.OperationResult;
 import application.dto.ParkCarRequest;
 import application.dto.ParkCarResponse;
+import application.dto.ParkingLotDelta;
+import application.dto.PlateSearchResult;
+import application.dto.SearchCarsResponse;
 import application.dto.UnparkCarRequest;
 import application.dto.UnparkCarResponse;
 import application.services.PlateValidationService;
+import application.tracing.Tracer;
+import application.usecases.ApplyExternalChangesUseCase;
 import application.usecases.BatchUnparkUseCase;
 import application.usecases.FindCarUseCase;
 import application.usecases.GenerateReportUseCase;
 import application.usecases.LoadParkingDataUseCase;
 import application.usecases.ParkCarUseCase;
+import application.usecases.SearchCarsUseCase;
 import application.usecases.UnparkCarUseCase;
+import infrastructure.concurrency.SerialExecutor;
 import infrastructure.logging.AppLogger;
 
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public final class ParkingViewController {
+    private static final int SEARCH_SUGGESTION_LIMIT = 5;
+
     private final LoadParkingDataUseCase loadParkingDataUseCase;
     private final ParkCarUseCase parkCarUseCase;
     private final UnparkCarUseCase unparkCarUseCase;
     private final BatchUnparkUseCase batchUnparkUseCase;
     private final FindCarUseCase findCarUseCase;
+    private final SearchCarsUseCase searchCarsUseCase;
     private final GenerateReportUseCase generateReportUseCase;
+    private final ApplyExternalChangesUseCase applyExternalChangesUseCase;
     private final PlateValidationService plateValidationService;
     private final AppLogger logger;
+    private final Tracer tracer;
+    private final Executor readExecutor;
+    private final Executor mutationExecutor;
 
     private ParkingView view;
+    private ViewUpdateCoalescer viewUpdates;
+    private int pendingOperations;
+    private long latestLoadSequence;
+    private long latestSearchSequence;
 
     public ParkingViewController(
             LoadParkingDataUseCase loadParkingDataUseCase,
@@ -41,9 +67,69 @@ public final class ParkingViewController {
             UnparkCarUseCase unparkCarUseCase,
             BatchUnparkUseCase batchUnparkUseCase,
             FindCarUseCase findCarUseCase,
+            SearchCarsUseCase searchCarsUseCase,
             GenerateReportUseCase generateReportUseCase,
+            ApplyExternalChangesUseCase applyExternalChangesUseCase,
             PlateValidationService plateValidationService,
             AppLogger logger
+    ) {
+        this(
+                loadParkingDataUseCase,
+                parkCarUseCase,
+                unparkCarUseCase,
+                batchUnparkUseCase,
+                findCarUseCase,
+                searchCarsUseCase,
+                generateReportUseCase,
+                applyExternalChangesUseCase,
+                plateValidationService,
+                logger,
+                Tracer.disabled()
+        );
+    }
+
+    public ParkingViewController(
+            LoadParkingDataUseCase loadParkingDataUseCase,
+            ParkCarUseCase parkCarUseCase,
+            UnparkCarUseCase unparkCarUseCase,
+            BatchUnparkUseCase batchUnparkUseCase,
+            FindCarUseCase findCarUseCase,
+            SearchCarsUseCase searchCarsUseCase,
+            GenerateReportUseCase generateReportUseCase,
+            ApplyExternalChangesUseCase applyExternalChangesUseCase,
+            PlateValidationService plateValidationService,
+            AppLogger logger,
+            Tracer tracer
+    ) {
+        this(
+                loadParkingDataUseCase,
+                parkCarUseCase,
+                unparkCarUseCase,
+                batchUnparkUseCase,
+                findCarUseCase,
+                searchCarsUseCase,
+                generateReportUseCase,
+                applyExternalChangesUseCase,
+                plateValidationService,
+                logger,
+                tracer,
+                Runnable::run
+        );
+    }
+
+    public ParkingViewController(
+            LoadParkingDataUseCase loadParkingDataUseCase,
+            ParkCarUseCase parkCarUseCase,
+            UnparkCarUseCase unparkCarUseCase,
+            BatchUnparkUseCase batchUnparkUseCase,
+            FindCarUseCase findCarUseCase,
+            SearchCarsUseCase searchCarsUseCase,
+            GenerateReportUseCase generateReportUseCase,
+            ApplyExternalChangesUseCase applyExternalChangesUseCase,
+            PlateValidationService plateValidationService,
+            AppLogger logger,
+            Tracer tracer,
+            Executor backgroundExecutor
     ) {
         if (loadParkingDataUseCase == null) {
             throw new IllegalArgumentException("Load parking data use case cannot be null");
@@ -65,10 +151,18 @@ public final class ParkingViewController {
             throw new IllegalArgumentException("Find car use case cannot be null");
         }
 
+        if (searchCarsUseCase == null) {
+            throw new IllegalArgumentException("Search cars use case cannot be null");
+        }
+
         if (generateReportUseCase == null) {
             throw new IllegalArgumentException("Generate report use case cannot be null");
         }
 
+        if (applyExternalChangesUseCase == null) {
+            throw new IllegalArgumentException("Apply external changes use case cannot be null");
+        }
+
         if (plateValidationService == null) {
             throw new IllegalArgumentException("Plate validation service cannot be null");
         }
@@ -77,14 +171,27 @@ public final class ParkingViewController {
             throw new IllegalArgumentException("Logger cannot be null");
         }
 
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+
+        if (backgroundExecutor == null) {
+            throw new IllegalArgumentException("Background executor cannot be null");
+        }
+
         this.loadParkingDataUseCase = loadParkingDataUseCase;
         this.parkCarUseCase = parkCarUseCase;
         this.unparkCarUseCase = unparkCarUseCase;
         this.batchUnparkUseCase = batchUnparkUseCase;
         this.findCarUseCase = findCarUseCase;
+        this.searchCarsUseCase = searchCarsUseCase;
         this.generateReportUseCase = generateReportUseCase;
+        this.applyExternalChangesUseCase = applyExternalChangesUseCase;
         this.plateValidationService = plateValidationService;
         this.logger = logger;
+        this.tracer = tracer;
+        this.readExecutor = backgroundExecutor;
+        this.mutationExecutor = new SerialExecutor(backgroundExecutor);
     }
 
     public void attachView(ParkingView view) {
@@ -93,6 +200,7 @@ public final class ParkingViewController {
         }
 
         this.view = view;
+        this.viewUpdates = new ViewUpdateCoalescer(view, this::loadParkingData);
     }
 
     public OperationResult<?> validateLicensePlate(String licensePlate) {
@@ -104,28 +212,38 @@ public final class ParkingViewController {
             return;
         }
 
-        try {
-            OperationResult<LoadParkingDataResponse> result = loadParkingDataUseCase.execute();
-
-            if (result.isSuccess()) {
-                LoadParkingDataResponse response = result.getData();
-
-                if (response != null && response.getParkingLot() != null) {
-                    view.displayParkingLot(response.getParkingLot());
+        long loadSequence = ++latestLoadSequence;
+
+        runInBackground(
+                readExecutor,
+                "controller.loadParkingData",
+                loadParkingDataUseCase::execute,
+                result -> {
+                    if (loadSequence != latestLoadSequence) {
+                        return;
+                    }
+
+                    if (result.isSuccess()) {
+                        LoadParkingDataResponse response = result.getData();
+
+                        if (response != null && response.getParkingLot() != null) {
+                            viewUpdates.submitParkingLot(response.getParkingLot());
+                        }
+
+                        viewUpdates.submitStatus(result.getMessage());
+                    } else {
+                        showOperationError(result);
+                    }
+                },
+                exception -> {
+                    logger.error("Failed to load parking data", exception);
+                    showError(
+                            "Failed to load parking data.",
+                            "Check the parking data file.",
+                            "Restart the application and try again."
+                    );
                 }
-
-                view.setStatus(result.getMessage());
-            } else {
-                showOperationError(result);
-            }
-        } catch (Exception exception) {
-            logger.error("Failed to load parking data", exception);
-            view.showError(
-                    "Failed to load parking data.",
-                    "Check the parking data file.",
-                    "Restart the application and try again."
-            );
-        }
+        );
     }
 
     public void parkCar(String licensePlate) {
@@ -133,151 +251,340 @@ public final class ParkingViewController {
             return;
         }
 
-        try {
-            OperationResult<ParkCarResponse> result = parkCarUseCase.execute(new ParkCarRequest(licensePlate));
+        runInBackground(
+                mutationExecutor,
+                "controller.parkCar",
+                () -> parkCarUseCase.execute(new ParkCarRequest(licensePlate)),
+                result -> {
+                    if (result.isSuccess()) {
+                        ParkCarResponse response = result.getData();
+
+                        if (response != null) {
+                            applyParkingLotDelta(response.getDelta());
+                        }
+
+                        showInfo(result.getMessage());
+                    } else {
+                        showOperationError(result);
+                    }
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error while parking car", exception);
+                    showError(
+                            "Parking failed because an unexpected error occurred.",
+                            "Check the license plate and try again.",
+                            "Restart the application if the problem continues."
+                    );
+                }
+        );
+    }
 
-            if (result.isSuccess()) {
-                ParkCarResponse response = result.getData();
+    public void unparkCar(int slotNumber) {
+        if (!isViewReady("unpark car")) {
+            return;
+        }
 
-                if (response != null && response.getParkingLot() != null) {
-                    view.displayParkingLot(response.getParkingLot());
+        runInBackground(
+                mutationExecutor,
+                "controller.unparkCar",
+                () -> unparkCarUseCase.execute(new UnparkCarRequest(slotNumber)),
+                result -> {
+                    if (result.isSuccess()) {
+                        UnparkCarResponse response = result.getData();
+
+                        if (response != null) {
+                            applyParkingLotDelta(response.getDelta());
+                        }
+
+                        showInfo(result.getMessage());
+                    } else {
+                        showOperationError(result);
+                    }
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error while unparking car", exception);
+                    showError(
+                            "Unparking failed because an unexpected error occurred.",
+                            "Refresh the parking slots and try again.",
+                            "Restart the application if the problem continues."
+                    );
                 }
+        );
+    }
 
-                view.showInfo(result.getMessage());
-            } else {
-                showOperationError(result);
-            }
-        } catch (Exception exception) {
-            logger.error("Unexpected presentation error while parking car", exception);
-            view.showError(
-                    "Parking failed because an unexpected error occurred.",
-                    "Check the license plate and try again.",
-                    "Restart the application if the problem continues."
-            );
+    public void batchUnpark(BitSet slotNumbers) {
+        if (!isViewReady("batch unpark")) {
+            return;
         }
+
+        BatchUnparkRequest request = BatchUnparkRequest.fromSlots(slotNumbers);
+
+        runInBackground(
+                mutationExecutor,
+                "controller.batchUnpark",
+                () -> batchUnparkUseCase.execute(request),
+                result -> {
+                    if (result.isSuccess()) {
+                        BatchUnparkResponse response = result.getData();
+
+                        if (response != null) {
+                            applyParkingLotDelta(response.getDelta());
+                        }
+
+                        showInfo(result.getMessage());
+                    } else {
+                        showOperationError(result);
+                    }
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error during batch unpark", exception);
+                    showError(
+                            "Batch unpark failed because an unexpected error occurred.",
+                            "Refresh the parking slots and try again.",
+                            "Restart the application if the problem continues."
+                    );
+                }
+        );
     }
 
-    public void unparkCar(int slotNumber) {
-        if (!isViewReady("unpark car")) {
+    public void applyExternalChanges(ExternalSlotChanges changes) {
+        if (!isViewReady("apply external changes")) {
             return;
         }
 
-        try {
-            OperationResult<UnparkCarResponse> result = unparkCarUseCase.execute(new UnparkCarRequest(slotNumber));
+        runInBackground(
+                mutationExecutor,
+                "controller.applyExternalChanges",
+                () -> applyExternalChangesUseCase.execute(changes),
+                result -> {
+                    if (result.isSuccess()) {
+                        applyParkingLotDelta(result.getData());
+                        viewUpdates.submitStatus(result.getMessage());
+                    } else {
+                        logger.warn("Failed to apply external parking data changes: " + result.getMessage());
+                        loadParkingData();
+                    }
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error while applying external changes", exception);
+                    loadParkingData();
+                }
+        );
+    }
 
-            if (result.isSuccess()) {
-                UnparkCarResponse response = result.getData();
+    public void findCar(String licensePlate) {
+        if (!isViewReady("find car")) {
+            return;
+        }
 
-                if (response != null && response.getParkingLot() != null) {
-                    view.displayParkingLot(response.getParkingLot());
+        long searchSequence = ++latestSearchSequence;
+
+        runInBackground(
+                readExecutor,
+                "controller.findCar",
+                () -> searchForCar(licensePlate),
+                outcome -> {
+                    if (searchSequence != latestSearchSequence) {
+                        return;
+                    }
+
+                    showSearchOutcome(licensePlate, outcome);
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error while searching for car", exception);
+                    showError(
+                            "Search failed because an unexpected error occurred.",
+                            "Check the license plate and try again.",
+                            "Restart the application if the problem continues."
+                    );
                 }
+        );
+    }
 
-                view.showInfo(result.getMessage());
-            } else {
-                showOperationError(result);
-            }
-        } catch (Exception exception) {
-            logger.error("Unexpected presentation error while unparking car", exception);
-            view.showError(
-                    "Unparking failed because an unexpected error occurred.",
-                    "Refresh the parking slots and try again.",
-                    "Restart the application if the problem continues."
-            );
+    public void generateReport() {
+        if (!isViewReady("generate report")) {
+            return;
         }
+
+        runInBackground(
+                readExecutor,
+                "controller.generateReport",
+                generateReportUseCase::execute,
+                result -> {
+                    if (result.isSuccess()) {
+                        showInfo(result.getMessage());
+                    } else {
+                        showOperationError(result);
+                    }
+                },
+                exception -> {
+                    logger.error("Unexpected presentation error while generating report", exception);
+                    showError(
+                            "Report generation failed because an unexpected error occurred.",
+                            "Close any open report file and try again.",
+                            "Restart the application if the problem continues."
+                    );
+                }
+        );
     }
 
-    public void batchUnpark(List<Integer> slotNumbers) {
-        if (!isViewReady("batch unpark")) {
+    public void showValidationError(String message, String recoveryStep) {
+        if (!isViewReady("show validation error")) {
             return;
         }
 
-        try {
-            OperationResult<BatchUnparkResponse> result = batchUnparkUseCase.execute(new BatchUnparkRequest(slotNumbers));
+        showError(message, recoveryStep);
+    }
 
-            if (result.isSuccess()) {
-                BatchUnparkResponse response = result.getData();
+    private SearchOutcome searchForCar(String licensePlate) {
+        if (plateValidationService.validate(licensePlate).isFailure()) {
+            return new SearchOutcome(null, searchCarsUseCase.execute(licensePlate, SEARCH_SUGGESTION_LIMIT));
+        }
 
-                if (response != null && response.getParkingLot() != null) {
-                    view.displayParkingLot(response.getParkingLot());
-                }
+        OperationResult<FindCarResponse> result = findCarUseCase.execute(new FindCarRequest(licensePlate));
+
+        if (result.isSuccess()) {
+            return new SearchOutcome(result, null);
+        }
 
-                view.showInfo(result.getMessage());
-            } else {
-                showOperationError(result);
+        return new SearchOutcome(result, searchCarsUseCase.execute(licensePlate, SEARCH_SUGGESTION_LIMIT));
+    }
+
+    private void showSearchOutcome(String licensePlate, SearchOutcome outcome) {
+        OperationResult<FindCarResponse> result = outcome.findResult;
+
+        if (result != null && result.isSuccess()) {
+            FindCarResponse response = result.getData();
+
+            if (response != null && response.isFound()) {
+                view.highlightSlot(response.getSlotNumber());
             }
-        } catch (Exception exception) {
-            logger.error("Unexpected presentation error during batch unpark", exception);
-            view.showError(
-                    "Batch unpark failed because an unexpected error occurred.",
-                    "Refresh the parking slots and try again.",
-                    "Restart the application if the problem continues."
+
+            showInfo(result.getMessage());
+            return;
+        }
+
+        if (showSearchSuggestions(licensePlate, outcome.suggestions)) {
+            return;
+        }
+
+        if (result == null) {
+            showError(
+                    "No parked cars match " + licensePlate.trim(),
+                    "Enter more of the license plate and try again."
             );
+        } else {
+            showOperationError(result);
         }
     }
 
-    public void findCar(String licensePlate) {
-        if (!isViewReady("find car")) {
-            return;
+    private boolean showSearchSuggestions(String query, OperationResult<SearchCarsResponse> result) {
+        if (result == null || result.isFailure() || result.getData() == null || !result.getData().hasResults()) {
+            return false;
         }
 
-        try {
-            OperationResult<FindCarResponse> result = findCarUseCase.execute(new FindCarRequest(licensePlate));
+        StringBuilder matches = new StringBuilder();
+        List<Integer> matchedSlots = new ArrayList<>();
 
-            if (result.isSuccess()) {
-                FindCarResponse response = result.getData();
+        for (PlateSearchResult match : result.getData().getResults()) {
+            matchedSlots.add(match.getSlotNumber());
 
-                if (response != null && response.isFound()) {
-                    view.highlightSlot(response.getSlotNumber());
+            if (matches.length() > 0) {
+                matches.append(", ");
+            }
+
+            matches.append(match.getLicensePlate())
+                    .append(" (slot ")
+                    .append(match.getSlotNumber())
+                    .append(")");
+        }
+
+        view.highlightSlots(matchedSlots);
+        showInfo("No exact match for " + query.trim() + ". Closest matches: " + matches);
+        return true;
+    }
+
+    private <T> void runInBackground(
+            Executor executor,
+            String spanName,
+            Supplier<T> task,
+            Consumer<T> onResult,
+            Consumer<Exception> onFailure
+    ) {
+        startOperation();
+
+        try {
+            executor.execute(() -> {
+                T result = null;
+                Exception failure = null;
+
+                try {
+                    result = tracer.trace(spanName, task);
+                } catch (Exception exception) {
+                    failure = exception;
                 }
 
-                view.showInfo(result.getMessage());
-            } else {
-                showOperationError(result);
-            }
-        } catch (Exception exception) {
-            logger.error("Unexpected presentation error while searching for car", exception);
-            view.showError(
-                    "Search failed because an unexpected error occurred.",
-                    "Check the license plate and try again.",
-                    "Restart the application if the problem continues."
+                deliver(result, failure, onResult, onFailure);
+            });
+        } catch (RejectedExecutionException exception) {
+            finishOperation();
+            showError(
+                    "The application is busy and could not start the operation.",
+                    "Wait for the current operations to finish and try again."
             );
         }
     }
 
-    public void generateReport() {
-        if (!isViewReady("generate report")) {
-            return;
-        }
+    private <T> void deliver(T result, Exception failure, Consumer<T> onResult, Consumer<Exception> onFailure) {
+        SwingUtilities.invokeLater(() -> {
+            finishOperation();
 
-        try {
-            OperationResult<GenerateReportResponse> result = generateReportUseCase.execute();
+            if (failure != null) {
+                onFailure.accept(failure);
+                return;
+            }
 
-            if (result.isSuccess()) {
-                view.showInfo(result.getMessage());
-            } else {
-                showOperationError(result);
+            try {
+                onResult.accept(result);
+            } catch (Exception exception) {
+                onFailure.accept(exception);
             }
-        } catch (Exception exception) {
-            logger.error("Unexpected presentation error while generating report", exception);
-            view.showError(
-                    "Report generation failed because an unexpected error occurred.",
-                    "Close any open report file and try again.",
-                    "Restart the application if the problem continues."
-            );
+        });
+    }
+
+    private void startOperation() {
+        if (pendingOperations++ == 0) {
+            view.setBusy(true);
         }
     }
 
-    public void showValidationError(String message, String recoveryStep) {
-        if (!isViewReady("show validation error")) {
+    private void finishOperation() {
+        if (--pendingOperations == 0) {
+            view.setBusy(false);
+        }
+    }
+
+    private void applyParkingLotDelta(ParkingLotDelta delta) {
+        if (delta == null) {
             return;
         }
 
-        view.showError(message, recoveryStep);
+        viewUpdates.submitDelta(delta);
+    }
+
+    private void showInfo(String message) {
+        viewUpdates.flush();
+        view.showInfo(message);
+    }
+
+    private void showError(String message, String... recoverySteps) {
+        viewUpdates.flush();
+        view.showError(message, recoverySteps);
     }
 
     private void showOperationError(OperationResult<?> result) {
         if (result == null) {
-            view.showError(
+            showError(
                     "Operation failed.",
                     "Try the action again.",
                     "Restart the application if the problem continues."
@@ -288,11 +595,11 @@ public final class ParkingViewController {
         ErrorResponse error = result.getError();
 
         if (error != null) {
-            view.showError(error.getMessage(), error.getRecoveryStep());
+            showError(error.getMessage(), error.getRecoveryStep());
             return;
         }
 
-        view.showError(
+        showError(
                 result.getMessage(),
                 "Try the action again.",
                 "Restart the application if the problem continues."
@@ -307,4 +614,17 @@ public final class ParkingViewController {
 
         return true;
     }
-}
\ No newline at end of file
+
+    private static final class SearchOutcome {
+        private final OperationResult<FindCarResponse> findResult;
+        private final OperationResult<SearchCarsResponse> suggestions;
+
+        private SearchOutcome(
+                OperationResult<FindCarResponse> findResult,
+                OperationResult<SearchCarsResponse> suggestions
+        ) {
+            this.findResult = findResult;
+            this.suggestions = suggestions;
+        }
+    }
+}
@@ -1,38 +1,66 @@
 package presentation.swing;
 
-import application.repositories.ParkingLotRepository;
+import application.dto.ExternalSlotChanges;
+import application.metrics.MetricsRegistry;
 import application.repositories.ReportRepository;
+import application.services.AdmissionController;
+import application.services.AdmittedParkingService;
+import application.services.AsyncParkingService;
+import application.services.ParkRequestBatcher;
 import application.services.ParkingService;
 import application.services.PlateValidationService;
 import application.services.ReportService;
+import application.tracing.Tracer;
+import application.usecases.ApplyExternalChangesUseCase;
 import application.usecases.BatchUnparkUseCase;
 import application.usecases.FindCarUseCase;
 import application.usecases.GenerateReportUseCase;
 import application.usecases.LoadParkingDataUseCase;
 import application.usecases.ParkCarUseCase;
+import application.usecases.SearchCarsUseCase;
 import application.usecases.UnparkCarUseCase;
 import application.validators.LicensePlateFormatValidator;
 import application.validators.ParkingRequestValidator;
+import infrastructure.config.AdmissionConfig;
 import infrastructure.config.AppConfig;
 import infrastructure.config.ConfigLoader;
+import infrastructure.config.DashboardConfig;
 import infrastructure.file.CsvReportRepository;
 import infrastructure.file.FileParkingLotRepository;
 import infrastructure.file.FilePaths;
+import infrastructure.file.GzipReportArchiveRepository;
 import infrastructure.file.ParkingLotFileMapper;
+import infrastructure.file.ParkingLotFileWatcher;
 import infrastructure.file.ReportFileMapper;
+import infrastructure.concurrency.ExecutorFactory;
+import infrastructure.config.LoggingConfig;
 import infrastructure.logging.AppLogger;
+import infrastructure.logging.AsyncFileLogger;
 import infrastructure.logging.ConsoleLogger;
+import infrastructure.metrics.MetricsFileDumper;
+import infrastructure.scheduling.ReportScheduler;
+import infrastructure.tracing.ChromeTraceExporter;
 import presentation.swing.dialogs.MessageBox;
+import presentation.swing.panels.DashboardPanel;
 import presentation.swing.resources.IconUtil;
 
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 public final class SwingApplication {
-    private final AppLogger logger;
+    private static final String OPERATOR_CLIENT_ID = "operator";
+    private static final String OPERATOR_BATCH_CLIENT_ID = "operator-batch";
+
+    private final AppLogger bootstrapLogger;
 
     public SwingApplication() {
-        this.logger = new ConsoleLogger();
+        this.bootstrapLogger = new ConsoleLogger();
     }
 
     public void start() {
@@ -44,27 +72,46 @@ public final class SwingApplication {
     }
 
     private void startOnEventDispatchThread() {
+        AppLogger logger = bootstrapLogger;
+        List<Runnable> shutdownActions = new ArrayList<>();
+
         try {
             configureLookAndFeel();
 
-            ConfigLoader configLoader = new ConfigLoader(logger);
+            ConfigLoader configLoader = new ConfigLoader(bootstrapLogger);
             AppConfig config = configLoader.load();
 
             FilePaths filePaths = new FilePaths(config);
+            AsyncFileLogger fileLogger = createFileLogger(config.getLoggingConfig(), filePaths);
+
+            if (fileLogger != null) {
+                logger = fileLogger;
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> runShutdownActions(shutdownActions, fileLogger), "application-shutdown"));
+            MetricsRegistry metrics = config.getMetricsConfig().isEnabled()
+                    ? new MetricsRegistry()
+                    : MetricsRegistry.disabled();
+            Tracer tracer = config.getTracingConfig().isEnabled()
+                    ? new Tracer(config.getTracingConfig().getBufferCapacity())
+                    : Tracer.disabled();
 
-            ParkingLotFileMapper parkingLotFileMapper = new ParkingLotFileMapper(logger);
+            ParkingLotFileMapper parkingLotFileMapper = new ParkingLotFileMapper(logger, metrics, tracer);
             ReportFileMapper reportFileMapper = new ReportFileMapper();
 
-            ParkingLotRepository parkingLotRepository = new FileParkingLotRepository(
+            FileParkingLotRepository parkingLotRepository = new FileParkingLotRepository(
                     filePaths,
                     parkingLotFileMapper,
-                    logger
+                    logger,
+                    metrics,
+                    tracer
             );
 
             ReportRepository reportRepository = new CsvReportRepository(
                     filePaths,
                     reportFileMapper,
-                    logger
+                    logger,
+                    config.getReportConfig().isFixedWidthRows()
             );
 
             LicensePlateFormatValidator licensePlateFormatValidator = new LicensePlateFormatValidator();
@@ -73,26 +120,57 @@ public final class SwingApplication {
             ParkingService parkingService = new ParkingService(
                     parkingLotRepository,
                     parkingRequestValidator,
-                    config.getParkingLotSize()
+                    config.getParkingLotSize(),
+                    config.getIdempotencyConfig().getCacheSize(),
+                    Duration.ofSeconds(config.getIdempotencyConfig().getTtlSeconds()),
+                    tracer,
+                    logger::error
             );
 
+            AdmissionController admissionController = createAdmissionController(config.getAdmissionConfig());
+            AdmittedParkingService admittedParkingService = new AdmittedParkingService(parkingService, admissionController);
+            parkingLotRepository.addCommitLatencyListener(admissionController::recordCommitLatency);
+
+            ParkRequestBatcher parkRequestBatcher = new ParkRequestBatcher(
+                    parkingService,
+                    config.getParkBatchConfig().getMaxSize(),
+                    config.getParkBatchConfig().getWindowMillis()
+            );
+
+            parkRequestBatcher.start();
+            shutdownActions.add(parkRequestBatcher::close);
+
             ReportService reportService = new ReportService(
                     parkingLotRepository,
                     reportRepository,
                     config.getParkingLotSize()
             );
 
+            ReportScheduler reportScheduler = new ReportScheduler(
+                    parkingLotRepository,
+                    new GzipReportArchiveRepository(filePaths, reportFileMapper, config.getReportConfig(), logger),
+                    config.getReportConfig(),
+                    logger,
+                    config.getParkingLotSize()
+            );
+
             PlateValidationService plateValidationService = new PlateValidationService(licensePlateFormatValidator);
+            ExecutorService uiExecutor = new ExecutorFactory(logger).create(config.getAsyncConfig(), "ui-worker");
+            shutdownActions.add(uiExecutor::shutdown);
 
             ParkingViewController controller = new ParkingViewController(
-                    new LoadParkingDataUseCase(parkingService),
-                    new ParkCarUseCase(parkingService),
-                    new UnparkCarUseCase(parkingService),
-                    new BatchUnparkUseCase(parkingService),
-                    new FindCarUseCase(parkingService),
-                    new GenerateReportUseCase(reportService),
+                    new LoadParkingDataUseCase(parkingService, metrics),
+                    new ParkCarUseCase(admittedParkingService, OPERATOR_CLIENT_ID, metrics),
+                    new UnparkCarUseCase(admittedParkingService, OPERATOR_CLIENT_ID, metrics),
+                    new BatchUnparkUseCase(admittedParkingService, OPERATOR_BATCH_CLIENT_ID, metrics),
+                    new FindCarUseCase(parkingService, metrics),
+                    new SearchCarsUseCase(parkingService, metrics),
+                    new GenerateReportUseCase(reportService, metrics),
+                    new ApplyExternalChangesUseCase(parkingService, metrics),
                     plateValidationService,
-                    logger
+                    logger,
+                    tracer,
+                    uiExecutor
             );
 
             IconUtil iconUtil = new IconUtil(logger);
@@ -109,8 +187,51 @@ public final class SwingApplication {
 
             controller.attachView(view);
             view.setVisible(true);
+
+            if (config.getDashboardConfig().isEnabled()) {
+                openDashboard(
+                        config.getAppTitle(),
+                        config.getDashboardConfig(),
+                        parkingService,
+                        new AsyncParkingService(parkingService, uiExecutor),
+                        logger
+                );
+            }
+
             view.focusParkInput();
             controller.loadParkingData();
+
+            if (config.getFileWatchConfig().isEnabled()) {
+                ParkingLotFileWatcher fileWatcher = createFileWatcher(
+                        config,
+                        filePaths,
+                        parkingLotFileMapper,
+                        controller,
+                        logger
+                );
+
+                parkingLotRepository.addWriteListener(fileWatcher::recordWrittenLines);
+                fileWatcher.start();
+                shutdownActions.add(fileWatcher::stop);
+            }
+
+            reportScheduler.start();
+            shutdownActions.add(reportScheduler::stop);
+
+            MetricsFileDumper metricsFileDumper = new MetricsFileDumper(
+                    metrics,
+                    config.getMetricsConfig(),
+                    filePaths,
+                    logger
+            );
+
+            metricsFileDumper.start();
+            shutdownActions.add(metricsFileDumper::stop);
+
+            if (tracer.isEnabled()) {
+                ChromeTraceExporter traceExporter = new ChromeTraceExporter(logger);
+                shutdownActions.add(() -> traceExporter.export(tracer, filePaths.getTraceFile()));
+            }
         } catch (Exception exception) {
             logger.error("Failed to start Swing application", exception);
 
@@ -123,11 +244,110 @@ public final class SwingApplication {
         }
     }
 
+    private AdmissionController createAdmissionController(AdmissionConfig admissionConfig) {
+        return new AdmissionController(
+                admissionConfig.getMaxConcurrentPerClient(),
+                admissionConfig.getInitialLimit(),
+                admissionConfig.getMinLimit(),
+                admissionConfig.getMaxLimit(),
+                admissionConfig.getLatencyTargetMillis()
+        );
+    }
+
+    private ParkingLotFileWatcher createFileWatcher(
+            AppConfig config,
+            FilePaths filePaths,
+            ParkingLotFileMapper parkingLotFileMapper,
+            ParkingViewController controller,
+            AppLogger logger
+    ) {
+        return new ParkingLotFileWatcher(
+                filePaths,
+                parkingLotFileMapper,
+                logger,
+                config.getParkingLotSize(),
+                config.getFileWatchConfig().getDebounceMillis(),
+                new ParkingLotFileWatcher.Listener() {
+                    @Override
+                    public void onSlotsChanged(ExternalSlotChanges changes) {
+                        SwingUtilities.invokeLater(() -> controller.applyExternalChanges(changes));
+                    }
+
+                    @Override
+                    public void onReloadRequired() {
+                        SwingUtilities.invokeLater(controller::loadParkingData);
+                    }
+                }
+        );
+    }
+
+    private void openDashboard(
+            String appTitle,
+            DashboardConfig dashboardConfig,
+            ParkingService parkingService,
+            AsyncParkingService asyncParkingService,
+            AppLogger logger
+    ) {
+        DashboardPanel dashboardPanel = new DashboardPanel(dashboardConfig.getHistorySeconds());
+        DashboardWindow dashboardWindow = new DashboardWindow(appTitle, dashboardPanel);
+
+        parkingService.addParkingEventListener(dashboardPanel);
+        dashboardWindow.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent event) {
+                parkingService.removeParkingEventListener(dashboardPanel);
+            }
+        });
+        dashboardWindow.setVisible(true);
+
+        asyncParkingService.loadParkingData().thenAccept(result -> {
+            if (result.isSuccess() && result.getData() != null) {
+                SwingUtilities.invokeLater(() -> dashboardPanel.showParkingLot(result.getData().getParkingLot()));
+            } else {
+                logger.warn("Dashboard could not load the current occupancy: " + result.getMessage());
+            }
+        });
+    }
+
+    private AsyncFileLogger createFileLogger(LoggingConfig loggingConfig, FilePaths filePaths) {
+        if (!loggingConfig.isFileEnabled()) {
+            return null;
+        }
+
+        try {
+            return new AsyncFileLogger(
+                    loggingConfig.getLevel(),
+                    filePaths.getLogFile(),
+                    loggingConfig.getMaxFileSizeKb() * 1024L,
+                    loggingConfig.getMaxFiles(),
+                    loggingConfig.getBufferCapacity(),
+                    loggingConfig.isConsoleOutput()
+            );
+        } catch (Exception exception) {
+            bootstrapLogger.error("Failed to open log file. Falling back to console logging", exception);
+            return null;
+        }
+    }
+
+    private void runShutdownActions(List<Runnable> shutdownActions, AsyncFileLogger fileLogger) {
+        for (Runnable action : shutdownActions) {
+            try {
+                action.run();
+            } catch (RuntimeException exception) {
+                bootstrapLogger.error("Shutdown action failed", exception);
+            }
+        }
+
+        if (fileLogger != null) {
+            fileLogger.close();
+        }
+    }
+
     private void configureLookAndFeel() {
         try {
             UIManager.setLookAndFeel(UIManager.getCrossPlatformLookAndFeelClassName());
         } catch (Exception exception) {
-            logger.warn("Failed to apply cross-platform look and feel: " + exception.getMessage());
+            bootstrapLogger.warn("Failed to apply cross-platform look and feel: " + exception.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package presentation.swing;
+
+import application.dto.ParkingLotDelta;
+import application.dto.ParkingLotViewData;
+import application.dto.SlotViewData;
+
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class ViewUpdateCoalescer {
+    private static final int FRAME_INTERVAL_MILLISECONDS = 33;
+    private static final long NO_VERSION = -1L;
+
+    private final ParkingView view;
+    private final Runnable reloadHandler;
+    private final Timer frameTimer;
+    private final Map<Integer, SlotViewData> pendingSlots;
+
+    private ParkingLotViewData pendingParkingLot;
+    private ParkingLotDelta pendingDelta;
+    private String pendingStatus;
+    private boolean reloadRequired;
+    private long latestVersion;
+
+    ViewUpdateCoalescer(ParkingView view, Runnable reloadHandler) {
+        if (view == null) {
+            throw new IllegalArgumentException("Parking view cannot be null");
+        }
+
+        if (reloadHandler == null) {
+            throw new IllegalArgumentException("Reload handler cannot be null");
+        }
+
+        this.view = view;
+        this.reloadHandler = reloadHandler;
+        this.frameTimer = new Timer(FRAME_INTERVAL_MILLISECONDS, event -> flush());
+        this.frameTimer.setRepeats(false);
+        this.pendingSlots = new LinkedHashMap<>();
+        this.latestVersion = NO_VERSION;
+    }
+
+    void submitParkingLot(ParkingLotViewData parkingLot) {
+        if (parkingLot == null || parkingLot.getVersion() < latestVersion) {
+            return;
+        }
+
+        pendingParkingLot = parkingLot;
+        pendingDelta = null;
+        pendingSlots.clear();
+        reloadRequired = false;
+        latestVersion = parkingLot.getVersion();
+        scheduleFlush();
+    }
+
+    void submitDelta(ParkingLotDelta delta) {
+        if (delta == null || delta.getVersion() <= latestVersion) {
+            return;
+        }
+
+        if (pendingDelta != null && delta.getBaseVersion() != pendingDelta.getVersion()) {
+            reloadRequired = true;
+        } else if (pendingDelta == null && pendingParkingLot != null && delta.getBaseVersion() != pendingParkingLot.getVersion()) {
+            reloadRequired = true;
+        } else {
+            mergeDelta(delta);
+        }
+
+        latestVersion = delta.getVersion();
+        scheduleFlush();
+    }
+
+    void submitStatus(String message) {
+        pendingStatus = message;
+        scheduleFlush();
+    }
+
+    void flush() {
+        frameTimer.stop();
+
+        ParkingLotViewData parkingLot = pendingParkingLot;
+        ParkingLotDelta delta = reloadRequired ? null : pendingDelta;
+        String status = pendingStatus;
+        boolean reload = reloadRequired;
+
+        pendingParkingLot = null;
+        pendingDelta = null;
+        pendingSlots.clear();
+        pendingStatus = null;
+        reloadRequired = false;
+
+        if (parkingLot != null) {
+            view.displayParkingLot(parkingLot);
+        }
+
+        if (delta != null && !view.applyParkingLotDelta(delta)) {
+            reload = true;
+        }
+
+        if (status != null) {
+            view.setStatus(status);
+        }
+
+        if (reload) {
+            reloadHandler.run();
+        }
+    }
+
+    private void mergeDelta(ParkingLotDelta delta) {
+        long baseVersion = pendingDelta == null ? delta.getBaseVersion() : pendingDelta.getBaseVersion();
+
+        for (SlotViewData slot : delta.getChangedSlots()) {
+            pendingSlots.remove(slot.getSlotNumber());
+            pendingSlots.put(slot.getSlotNumber(), slot);
+        }
+
+        pendingDelta = new ParkingLotDelta(
+                baseVersion,
+                delta.getVersion(),
+                delta.getSize(),
+                delta.getOccupiedSlots(),
+                delta.getAvailableSlots(),
+                new ArrayList<>(pendingSlots.values())
+        );
+    }
+
+    private void scheduleFlush() {
+        if (!frameTimer.isRunning()) {
+            frameTimer.start();
+        }
+    }
+}
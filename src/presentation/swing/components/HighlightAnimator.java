@@ -0,0 +1,186 @@
+package presentation.swing.components;
+
+import javax.swing.Timer;
+import java.awt.Color;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class HighlightAnimator {
+    private static final int FRAME_INTERVAL_MILLISECONDS = 33;
+    private static final long PULSE_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(700);
+    private static final float FADE_START_FRACTION = 0.6f;
+    private static final float MIN_INTENSITY_CHANGE = 0.02f;
+
+    private final Map<Target, Map<Integer, Highlight>> highlightsByTarget;
+    private final Timer timer;
+
+    public HighlightAnimator() {
+        this.highlightsByTarget = new IdentityHashMap<>();
+        this.timer = new Timer(FRAME_INTERVAL_MILLISECONDS, event -> tick());
+        this.timer.setCoalesce(true);
+    }
+
+    public static Color blend(Color from, Color to, float amount) {
+        float safeAmount = Math.max(0f, Math.min(1f, amount));
+
+        if (safeAmount <= 0f) {
+            return from;
+        }
+
+        if (safeAmount >= 1f) {
+            return to;
+        }
+
+        return new Color(
+                Math.round(from.getRed() + (to.getRed() - from.getRed()) * safeAmount),
+                Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * safeAmount),
+                Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * safeAmount)
+        );
+    }
+
+    public void highlight(Target target, int slotNumber, long durationMillis, Style style) {
+        if (target == null) {
+            throw new IllegalArgumentException("Highlight target cannot be null");
+        }
+
+        if (durationMillis <= 0) {
+            throw new IllegalArgumentException("Highlight duration must be greater than zero");
+        }
+
+        long startNanos = System.nanoTime();
+        Highlight highlight = new Highlight(
+                startNanos,
+                TimeUnit.MILLISECONDS.toNanos(durationMillis),
+                style == null ? Style.FADE : style
+        );
+
+        highlightsByTarget.computeIfAbsent(target, ignored -> new LinkedHashMap<>()).put(slotNumber, highlight);
+        highlight.lastIntensity = 1f;
+        target.setHighlightIntensity(slotNumber, 1f);
+
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    public void cancel(Target target, int slotNumber) {
+        Map<Integer, Highlight> highlights = highlightsByTarget.get(target);
+
+        if (highlights == null || highlights.remove(slotNumber) == null) {
+            return;
+        }
+
+        target.setHighlightIntensity(slotNumber, 0f);
+
+        if (highlights.isEmpty()) {
+            highlightsByTarget.remove(target);
+        }
+
+        stopWhenIdle();
+    }
+
+    public void cancelAll(Target target) {
+        Map<Integer, Highlight> highlights = highlightsByTarget.remove(target);
+
+        if (highlights != null) {
+            for (Integer slotNumber : highlights.keySet()) {
+                target.setHighlightIntensity(slotNumber, 0f);
+            }
+        }
+
+        stopWhenIdle();
+    }
+
+    public int getActiveHighlightCount() {
+        int count = 0;
+
+        for (Map<Integer, Highlight> highlights : highlightsByTarget.values()) {
+            count += highlights.size();
+        }
+
+        return count;
+    }
+
+    private void tick() {
+        long nowNanos = System.nanoTime();
+        Iterator<Map.Entry<Target, Map<Integer, Highlight>>> targets = highlightsByTarget.entrySet().iterator();
+
+        while (targets.hasNext()) {
+            Map.Entry<Target, Map<Integer, Highlight>> targetEntry = targets.next();
+            Target target = targetEntry.getKey();
+            Iterator<Map.Entry<Integer, Highlight>> highlights = targetEntry.getValue().entrySet().iterator();
+
+            while (highlights.hasNext()) {
+                Map.Entry<Integer, Highlight> highlightEntry = highlights.next();
+                Highlight highlight = highlightEntry.getValue();
+                float intensity = highlight.intensityAt(nowNanos);
+
+                if (intensity <= 0f) {
+                    highlights.remove();
+                    target.setHighlightIntensity(highlightEntry.getKey(), 0f);
+                } else if (Math.abs(intensity - highlight.lastIntensity) >= MIN_INTENSITY_CHANGE) {
+                    highlight.lastIntensity = intensity;
+                    target.setHighlightIntensity(highlightEntry.getKey(), intensity);
+                }
+            }
+
+            if (targetEntry.getValue().isEmpty()) {
+                targets.remove();
+            }
+        }
+
+        stopWhenIdle();
+    }
+
+    private void stopWhenIdle() {
+        if (highlightsByTarget.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    public enum Style {
+        FADE,
+        PULSE
+    }
+
+    public interface Target {
+        void setHighlightIntensity(int slotNumber, float intensity);
+    }
+
+    private static final class Highlight {
+        private final long startNanos;
+        private final long durationNanos;
+        private final Style style;
+
+        private float lastIntensity;
+
+        private Highlight(long startNanos, long durationNanos, Style style) {
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.style = style;
+        }
+
+        private float intensityAt(long nowNanos) {
+            long elapsedNanos = nowNanos - startNanos;
+
+            if (elapsedNanos >= durationNanos) {
+                return 0f;
+            }
+
+            float progress = elapsedNanos / (float) durationNanos;
+            float envelope = progress < FADE_START_FRACTION
+                    ? 1f
+                    : 1f - (progress - FADE_START_FRACTION) / (1f - FADE_START_FRACTION);
+
+            if (style == Style.PULSE) {
+                double phase = 2 * Math.PI * (elapsedNanos % PULSE_PERIOD_NANOS) / PULSE_PERIOD_NANOS;
+                envelope *= (float) (0.6 + 0.4 * Math.cos(phase));
+            }
+
+            return Math.max(envelope, Float.MIN_VALUE);
+        }
+    }
+}
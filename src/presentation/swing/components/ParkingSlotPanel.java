@@ -16,6 +16,7 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.event.ActionEvent;
 
 public final class ParkingSlotPanel extends JPanel {
     private static final Color EMPTY_COLOR = new Color(144, 238, 144);
@@ -26,15 +27,21 @@ public final class ParkingSlotPanel extends JPanel {
 
     private final ParkingViewController controller;
     private final IconUtil iconUtil;
+    private final SlotSelectionModel selectionModel;
     private final int slotNumber;
 
     private JLabel slotLabel;
     private JCheckBox selectCheckBox;
     private JButton unparkButton;
     private SlotViewData slotData;
-    private boolean highlighted;
-
-    public ParkingSlotPanel(ParkingViewController controller, IconUtil iconUtil, SlotViewData slotData) {
+    private float highlightIntensity;
+
+    public ParkingSlotPanel(
+            ParkingViewController controller,
+            IconUtil iconUtil,
+            SlotSelectionModel selectionModel,
+            SlotViewData slotData
+    ) {
         if (controller == null) {
             throw new IllegalArgumentException("Parking view controller cannot be null");
         }
@@ -43,18 +50,23 @@ public final class ParkingSlotPanel extends JPanel {
             throw new IllegalArgumentException("Icon utility cannot be null");
         }
 
+        if (selectionModel == null) {
+            throw new IllegalArgumentException("Slot selection model cannot be null");
+        }
+
         if (slotData == null) {
             throw new IllegalArgumentException("Slot data cannot be null");
         }
 
         this.controller = controller;
         this.iconUtil = iconUtil;
+        this.selectionModel = selectionModel;
         this.slotData = slotData;
         this.slotNumber = slotData.getSlotNumber();
 
         initializeLayout();
         initializeComponents();
-        applySlotState(false);
+        applySlotState();
     }
 
     private void initializeLayout() {
@@ -69,7 +81,8 @@ public final class ParkingSlotPanel extends JPanel {
 
         selectCheckBox = new JCheckBox();
         selectCheckBox.setHorizontalAlignment(SwingConstants.CENTER);
-        selectCheckBox.setToolTipText("Select this occupied slot for batch unpark");
+        selectCheckBox.setToolTipText("Select this occupied slot for batch unpark. Shift-click to select a range");
+        selectCheckBox.addActionListener(this::handleSelection);
 
         unparkButton = new JButton("Unpark", iconUtil.createUnparkIcon(ICON_SIZE, ICON_SIZE));
         unparkButton.setFocusPainted(false);
@@ -87,21 +100,32 @@ public final class ParkingSlotPanel extends JPanel {
         }
 
         this.slotData = slotData;
-        applySlotState(highlighted);
+        applySlotState();
     }
 
-    public void setHighlighted(boolean highlighted) {
-        this.highlighted = highlighted;
-        applySlotState(highlighted);
+    public boolean displays(SlotViewData slotData) {
+        return slotData != null
+                && slotData.getSlotNumber() == slotNumber
+                && slotData.getStatus() == this.slotData.getStatus()
+                && slotData.getLicensePlate().equals(this.slotData.getLicensePlate());
     }
 
-    public boolean isSelectedForBatch() {
-        return selectCheckBox != null && selectCheckBox.isSelected() && isOccupied();
+    public void setHighlightIntensity(float intensity) {
+        float safeIntensity = Math.max(0f, Math.min(1f, intensity));
+
+        if (safeIntensity == highlightIntensity) {
+            return;
+        }
+
+        highlightIntensity = safeIntensity;
+        applyBackground();
     }
 
-    public void clearSelection() {
-        if (selectCheckBox != null) {
-            selectCheckBox.setSelected(false);
+    public void refreshSelection() {
+        boolean selected = selectionModel.isSelected(slotNumber);
+
+        if (selectCheckBox.isSelected() != selected) {
+            selectCheckBox.setSelected(selected);
         }
     }
 
@@ -113,14 +137,15 @@ public final class ParkingSlotPanel extends JPanel {
         return slotData.getStatus() == SlotStatus.OCCUPIED;
     }
 
-    private void applySlotState(boolean highlighted) {
+    private void applyBackground() {
+        Color baseColor = isOccupied() ? OCCUPIED_COLOR : EMPTY_COLOR;
+        setBackground(HighlightAnimator.blend(baseColor, HIGHLIGHT_COLOR, highlightIntensity));
+    }
+
+    private void applySlotState() {
         boolean occupied = isOccupied();
 
-        if (highlighted) {
-            setBackground(HIGHLIGHT_COLOR);
-        } else {
-            setBackground(occupied ? OCCUPIED_COLOR : EMPTY_COLOR);
-        }
+        applyBackground();
 
         String labelText = occupied
                 ? "<html><center>Slot " + slotNumber + "<br>" + escapeHtml(slotData.getLicensePlate()) + "</center></html>"
@@ -133,10 +158,7 @@ public final class ParkingSlotPanel extends JPanel {
 
         selectCheckBox.setEnabled(occupied);
         selectCheckBox.setVisible(occupied);
-
-        if (!occupied) {
-            selectCheckBox.setSelected(false);
-        }
+        refreshSelection();
 
         unparkButton.setEnabled(occupied);
         unparkButton.setVisible(occupied);
@@ -145,6 +167,16 @@ public final class ParkingSlotPanel extends JPanel {
         repaint();
     }
 
+    private void handleSelection(ActionEvent event) {
+        if ((event.getModifiers() & ActionEvent.SHIFT_MASK) != 0) {
+            selectionModel.extendSelectionTo(slotNumber);
+        } else {
+            selectionModel.setSelected(slotNumber, selectCheckBox.isSelected());
+        }
+
+        refreshSelection();
+    }
+
     private void confirmAndUnpark() {
         if (!isOccupied()) {
             return;
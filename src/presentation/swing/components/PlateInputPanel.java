@@ -9,6 +9,7 @@ import javax.swing.Icon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.TitledBorder;
 import java.awt.Color;
@@ -20,6 +21,8 @@ import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public final class PlateInputPanel extends JPanel {
@@ -31,10 +34,13 @@ public final class PlateInputPanel extends JPanel {
     private static final int INPUT_WIDTH = 200;
     private static final int INPUT_HEIGHT = 30;
     private static final int ICON_SIZE = 16;
+    private static final int VALIDATION_DELAY_MILLISECONDS = 150;
+    private static final int VALIDATION_MEMO_SIZE = 16;
 
     private static final Color PLACEHOLDER_COLOR = Color.GRAY;
     private static final Color INPUT_TEXT_COLOR = Color.BLACK;
 
+    private static final Border DEFAULT_BORDER = new RoundedBorder(8, 1);
     private static final Border ERROR_BORDER = BorderFactory.createCompoundBorder(
             BorderFactory.createLineBorder(Color.RED, 1),
             BorderFactory.createEmptyBorder(5, 10, 5, 10)
@@ -43,9 +49,16 @@ public final class PlateInputPanel extends JPanel {
     private final ParkingViewController controller;
     private final IconUtil iconUtil;
     private final Consumer<String> submitHandler;
+    private final boolean partialInputAllowed;
+    private final Map<String, OperationResult<?>> validationMemo;
+    private final Timer validationTimer;
 
     private JTextField plateInput;
     private JLabel validationIcon;
+    private Icon validIcon;
+    private Icon invalidIcon;
+    private ValidationState validationState;
+    private String validationMessage;
 
     public PlateInputPanel(
             String title,
@@ -55,6 +68,19 @@ public final class PlateInputPanel extends JPanel {
             ParkingViewController controller,
             IconUtil iconUtil,
             Consumer<String> submitHandler
+    ) {
+        this(title, buttonText, buttonIcon, buttonTooltip, controller, iconUtil, submitHandler, false);
+    }
+
+    public PlateInputPanel(
+            String title,
+            String buttonText,
+            Icon buttonIcon,
+            String buttonTooltip,
+            ParkingViewController controller,
+            IconUtil iconUtil,
+            Consumer<String> submitHandler,
+            boolean partialInputAllowed
     ) {
         if (controller == null) {
             throw new IllegalArgumentException("Parking view controller cannot be null");
@@ -71,6 +97,16 @@ public final class PlateInputPanel extends JPanel {
         this.controller = controller;
         this.iconUtil = iconUtil;
         this.submitHandler = submitHandler;
+        this.partialInputAllowed = partialInputAllowed;
+        this.validationMemo = new LinkedHashMap<>(VALIDATION_MEMO_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OperationResult<?>> eldest) {
+                return size() > VALIDATION_MEMO_SIZE;
+            }
+        };
+        this.validationTimer = new Timer(VALIDATION_DELAY_MILLISECONDS, event -> validateCurrentInput());
+        this.validationTimer.setRepeats(false);
+        this.validationState = ValidationState.NONE;
 
         setBorder(BorderFactory.createTitledBorder(
                 BorderFactory.createEtchedBorder(),
@@ -115,7 +151,7 @@ public final class PlateInputPanel extends JPanel {
 
     private JTextField createPlateInput() {
         JTextField input = new JTextField(INPUT_COLUMNS);
-        input.setBorder(new RoundedBorder(8, 1));
+        input.setBorder(DEFAULT_BORDER);
         input.setPreferredSize(new Dimension(INPUT_WIDTH, INPUT_HEIGHT));
         input.setMargin(new Insets(5, 10, 5, 10));
         input.setText(PLACEHOLDER_TEXT);
@@ -142,7 +178,7 @@ public final class PlateInputPanel extends JPanel {
         input.addKeyListener(new KeyAdapter() {
             @Override
             public void keyReleased(KeyEvent event) {
-                validateCurrentInput();
+                validationTimer.restart();
             }
 
             @Override
@@ -157,6 +193,7 @@ public final class PlateInputPanel extends JPanel {
     }
 
     private void submit() {
+        validationTimer.stop();
         String input = getInputValue();
 
         if (input.isEmpty()) {
@@ -169,9 +206,9 @@ public final class PlateInputPanel extends JPanel {
             return;
         }
 
-        OperationResult<?> validationResult = controller.validateLicensePlate(input);
+        OperationResult<?> validationResult = validate(input);
 
-        if (validationResult.isFailure()) {
+        if (validationResult.isFailure() && !partialInputAllowed) {
             applyInvalidState(validationResult.getMessage());
             controller.showValidationError(
                     validationResult.getMessage(),
@@ -193,7 +230,7 @@ public final class PlateInputPanel extends JPanel {
             return;
         }
 
-        OperationResult<?> validationResult = controller.validateLicensePlate(input);
+        OperationResult<?> validationResult = validate(input);
 
         if (validationResult.isSuccess()) {
             applyValidState(validationResult.getMessage());
@@ -202,30 +239,67 @@ public final class PlateInputPanel extends JPanel {
         }
     }
 
+    private OperationResult<?> validate(String input) {
+        return validationMemo.computeIfAbsent(input, controller::validateLicensePlate);
+    }
+
     private void applyValidState(String message) {
-        plateInput.setBorder(new RoundedBorder(8, 1));
-        plateInput.setToolTipText(isBlank(message) ? VALID_TOOLTIP : message);
-        validationIcon.setIcon(iconUtil.createCheckIcon(ICON_SIZE, ICON_SIZE, "validation"));
+        String safeMessage = isBlank(message) ? VALID_TOOLTIP : message;
+
+        if (!changeValidationState(ValidationState.VALID, safeMessage)) {
+            return;
+        }
+
+        if (validIcon == null) {
+            validIcon = iconUtil.createCheckIcon(ICON_SIZE, ICON_SIZE, "validation");
+        }
+
+        plateInput.setBorder(DEFAULT_BORDER);
+        plateInput.setToolTipText(safeMessage);
+        validationIcon.setIcon(validIcon);
         validationIcon.setToolTipText(VALID_TOOLTIP);
     }
 
     private void applyInvalidState(String message) {
         String safeMessage = isBlank(message) ? "Invalid license plate" : message;
 
+        if (!changeValidationState(ValidationState.INVALID, safeMessage)) {
+            return;
+        }
+
+        if (invalidIcon == null) {
+            invalidIcon = iconUtil.createXIcon(ICON_SIZE, ICON_SIZE);
+        }
+
         plateInput.setBorder(ERROR_BORDER);
         plateInput.setToolTipText(safeMessage);
-        validationIcon.setIcon(iconUtil.createXIcon(ICON_SIZE, ICON_SIZE));
+        validationIcon.setIcon(invalidIcon);
         validationIcon.setToolTipText(safeMessage);
     }
 
     private void resetValidationState() {
-        plateInput.setBorder(new RoundedBorder(8, 1));
+        if (!changeValidationState(ValidationState.NONE, DEFAULT_TOOLTIP)) {
+            return;
+        }
+
+        plateInput.setBorder(DEFAULT_BORDER);
         plateInput.setToolTipText(DEFAULT_TOOLTIP);
         validationIcon.setIcon(null);
         validationIcon.setToolTipText(DEFAULT_TOOLTIP);
     }
 
+    private boolean changeValidationState(ValidationState state, String message) {
+        if (validationState == state && message.equals(validationMessage)) {
+            return false;
+        }
+
+        validationState = state;
+        validationMessage = message;
+        return true;
+    }
+
     private void resetInputToPlaceholder() {
+        validationTimer.stop();
         plateInput.setText(PLACEHOLDER_TEXT);
         plateInput.setForeground(PLACEHOLDER_COLOR);
         resetValidationState();
@@ -261,4 +335,10 @@ public final class PlateInputPanel extends JPanel {
 
         return value.trim();
     }
-}
\ No newline at end of file
+
+    private enum ValidationState {
+        NONE,
+        VALID,
+        INVALID
+    }
+}
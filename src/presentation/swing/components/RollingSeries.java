@@ -0,0 +1,66 @@
+package presentation.swing.components;
+
+public final class RollingSeries {
+    private final int[] values;
+
+    private int head;
+    private int size;
+    private long version;
+
+    public RollingSeries(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Series capacity must be greater than zero");
+        }
+
+        this.values = new int[capacity];
+    }
+
+    public int push(int value) {
+        int evicted = size == values.length ? values[head] : 0;
+
+        values[head] = value;
+        head = (head + 1) % values.length;
+        size = Math.min(size + 1, values.length);
+        version++;
+
+        return evicted;
+    }
+
+    public int getSecondsAgo(int age) {
+        if (age < 0 || age >= size) {
+            return 0;
+        }
+
+        return values[Math.floorMod(head - 1 - age, values.length)];
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Series index out of range: " + index);
+        }
+
+        return values[Math.floorMod(head - size + index, values.length)];
+    }
+
+    public int max() {
+        int max = 0;
+
+        for (int index = 0; index < size; index++) {
+            max = Math.max(max, get(index));
+        }
+
+        return max;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
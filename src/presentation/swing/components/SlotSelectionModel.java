@@ -0,0 +1,209 @@
+package presentation.swing.components;
+
+import application.dto.SlotViewData;
+import application.services.PlateSearchIndex;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+public final class SlotSelectionModel {
+    private static final int NO_ANCHOR = -1;
+
+    private final BitSet selectedSlots;
+    private final BitSet occupiedSlots;
+    private final List<ChangeListener> listeners;
+    private final ChangeEvent changeEvent;
+
+    private String[] plateKeys;
+    private int anchorSlot;
+
+    public SlotSelectionModel(int parkingLotSize) {
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        this.selectedSlots = new BitSet(parkingLotSize + 1);
+        this.occupiedSlots = new BitSet(parkingLotSize + 1);
+        this.listeners = new ArrayList<>();
+        this.changeEvent = new ChangeEvent(this);
+        this.plateKeys = new String[parkingLotSize + 1];
+        this.anchorSlot = NO_ANCHOR;
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Change listener cannot be null");
+        }
+
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void resize(int parkingLotSize) {
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        if (parkingLotSize == getSize()) {
+            return;
+        }
+
+        plateKeys = new String[parkingLotSize + 1];
+        occupiedSlots.clear();
+        anchorSlot = NO_ANCHOR;
+
+        if (!selectedSlots.isEmpty()) {
+            selectedSlots.clear();
+            fireStateChanged();
+        }
+    }
+
+    public void updateSlot(SlotViewData slotViewData) {
+        if (slotViewData == null || !isValidSlot(slotViewData.getSlotNumber())) {
+            return;
+        }
+
+        int slotNumber = slotViewData.getSlotNumber();
+        boolean occupied = slotViewData.isOccupied();
+        String plateKey = occupied ? PlateSearchIndex.toSearchKey(slotViewData.getLicensePlate()) : null;
+        boolean plateChanged = !Objects.equals(plateKeys[slotNumber], plateKey);
+
+        occupiedSlots.set(slotNumber, occupied);
+        plateKeys[slotNumber] = plateKey;
+
+        if (plateChanged && selectedSlots.get(slotNumber)) {
+            selectedSlots.clear(slotNumber);
+            fireStateChanged();
+        }
+    }
+
+    public void toggle(int slotNumber) {
+        if (!isSelectable(slotNumber)) {
+            return;
+        }
+
+        selectedSlots.flip(slotNumber);
+        anchorSlot = slotNumber;
+        fireStateChanged();
+    }
+
+    public void setSelected(int slotNumber, boolean selected) {
+        if (!isSelectable(slotNumber)) {
+            return;
+        }
+
+        anchorSlot = slotNumber;
+
+        if (selectedSlots.get(slotNumber) != selected) {
+            selectedSlots.set(slotNumber, selected);
+            fireStateChanged();
+        }
+    }
+
+    public void extendSelectionTo(int slotNumber) {
+        if (!isValidSlot(slotNumber)) {
+            return;
+        }
+
+        if (anchorSlot == NO_ANCHOR) {
+            toggle(slotNumber);
+            return;
+        }
+
+        int from = Math.min(anchorSlot, slotNumber);
+        int to = Math.max(anchorSlot, slotNumber) + 1;
+        BitSet range = occupiedSlots.get(from, to);
+        BitSet before = (BitSet) selectedSlots.clone();
+
+        for (int offset = range.nextSetBit(0); offset >= 0; offset = range.nextSetBit(offset + 1)) {
+            selectedSlots.set(from + offset);
+        }
+
+        if (!selectedSlots.equals(before)) {
+            fireStateChanged();
+        }
+    }
+
+    public int selectAllOccupied() {
+        BitSet before = (BitSet) selectedSlots.clone();
+
+        selectedSlots.or(occupiedSlots);
+
+        if (!selectedSlots.equals(before)) {
+            fireStateChanged();
+        }
+
+        return selectedSlots.cardinality() - before.cardinality();
+    }
+
+    public int selectByPlatePrefix(String prefix) {
+        String prefixKey = PlateSearchIndex.toSearchKey(prefix);
+
+        if (prefixKey.isEmpty()) {
+            return 0;
+        }
+
+        int added = 0;
+
+        for (int slotNumber = occupiedSlots.nextSetBit(1); slotNumber >= 0; slotNumber = occupiedSlots.nextSetBit(slotNumber + 1)) {
+            String plateKey = plateKeys[slotNumber];
+
+            if (plateKey != null && plateKey.startsWith(prefixKey) && !selectedSlots.get(slotNumber)) {
+                selectedSlots.set(slotNumber);
+                added++;
+            }
+        }
+
+        if (added > 0) {
+            fireStateChanged();
+        }
+
+        return added;
+    }
+
+    public void clear() {
+        anchorSlot = NO_ANCHOR;
+
+        if (!selectedSlots.isEmpty()) {
+            selectedSlots.clear();
+            fireStateChanged();
+        }
+    }
+
+    public boolean isSelected(int slotNumber) {
+        return slotNumber > 0 && selectedSlots.get(slotNumber);
+    }
+
+    public int getSelectedCount() {
+        return selectedSlots.cardinality();
+    }
+
+    public BitSet getSelectedSlots() {
+        return (BitSet) selectedSlots.clone();
+    }
+
+    public int getSize() {
+        return plateKeys.length - 1;
+    }
+
+    private boolean isSelectable(int slotNumber) {
+        return isValidSlot(slotNumber) && occupiedSlots.get(slotNumber);
+    }
+
+    private boolean isValidSlot(int slotNumber) {
+        return slotNumber >= 1 && slotNumber <= getSize();
+    }
+
+    private void fireStateChanged() {
+        for (ChangeListener listener : new ArrayList<>(listeners)) {
+            listener.stateChanged(changeEvent);
+        }
+    }
+}
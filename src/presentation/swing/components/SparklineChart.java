@@ -0,0 +1,130 @@
+package presentation.swing.components;
+
+import javax.swing.JComponent;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+
+public final class SparklineChart extends JComponent {
+    private static final Color GRID_COLOR = new Color(225, 225, 225);
+    private static final int PREFERRED_WIDTH = 300;
+    private static final int PREFERRED_HEIGHT = 48;
+    private static final int PADDING = 3;
+    private static final long NO_VERSION = -1L;
+
+    private final RollingSeries series;
+    private final Color lineColor;
+    private final Color fillColor;
+    private final int fixedMaximum;
+
+    private BufferedImage cachedImage;
+    private long renderedVersion;
+
+    public SparklineChart(RollingSeries series, Color lineColor) {
+        this(series, lineColor, 0);
+    }
+
+    public SparklineChart(RollingSeries series, Color lineColor, int fixedMaximum) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+
+        if (lineColor == null) {
+            throw new IllegalArgumentException("Line color cannot be null");
+        }
+
+        this.series = series;
+        this.lineColor = lineColor;
+        this.fillColor = new Color(lineColor.getRed(), lineColor.getGreen(), lineColor.getBlue(), 60);
+        this.fixedMaximum = Math.max(0, fixedMaximum);
+        this.renderedVersion = NO_VERSION;
+
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setPreferredSize(new Dimension(PREFERRED_WIDTH, PREFERRED_HEIGHT));
+    }
+
+    public void refresh() {
+        if (series.getVersion() != renderedVersion) {
+            repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        int width = getWidth();
+        int height = getHeight();
+
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        if (cachedImage == null || cachedImage.getWidth() != width || cachedImage.getHeight() != height) {
+            cachedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            renderedVersion = NO_VERSION;
+        }
+
+        if (renderedVersion != series.getVersion()) {
+            render(cachedImage);
+            renderedVersion = series.getVersion();
+        }
+
+        graphics.drawImage(cachedImage, 0, 0, null);
+    }
+
+    private void render(BufferedImage image) {
+        Graphics2D graphics = image.createGraphics();
+
+        try {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int plotHeight = height - PADDING * 2;
+
+            graphics.setColor(getBackground());
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(GRID_COLOR);
+            graphics.drawLine(0, height - PADDING, width, height - PADDING);
+
+            int size = series.size();
+
+            if (size < 2 || plotHeight <= 0) {
+                return;
+            }
+
+            int maximum = fixedMaximum > 0 ? fixedMaximum : Math.max(1, series.max());
+            double step = (double) (width - 1) / Math.max(1, series.capacity() - 1);
+            double startX = width - 1 - step * (size - 1);
+            Path2D.Double line = new Path2D.Double();
+
+            for (int index = 0; index < size; index++) {
+                double x = startX + step * index;
+                double y = height - PADDING - (double) Math.min(series.get(index), maximum) / maximum * plotHeight;
+
+                if (index == 0) {
+                    line.moveTo(x, y);
+                } else {
+                    line.lineTo(x, y);
+                }
+            }
+
+            Path2D.Double area = new Path2D.Double(line);
+            area.lineTo(width - 1, height - PADDING);
+            area.lineTo(startX, height - PADDING);
+            area.closePath();
+
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(fillColor);
+            graphics.fill(area);
+            graphics.setColor(lineColor);
+            graphics.setStroke(new BasicStroke(1.5f));
+            graphics.draw(line);
+        } finally {
+            graphics.dispose();
+        }
+    }
+}
@@ -2,9 +2,11 @@ package presentation.swing.panels;
 
 import presentation.swing.ParkingViewController;
 import presentation.swing.components.RoundedBorder;
+import presentation.swing.components.SlotSelectionModel;
 import presentation.swing.resources.IconUtil;
 
 import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
 import javax.swing.JButton;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
@@ -16,25 +18,28 @@ import java.awt.Font;
 import java.awt.Insets;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.List;
+import java.util.BitSet;
 
 public final class BatchPanel extends JPanel {
     private static final int ICON_SIZE = 16;
 
     private final ParkingViewController controller;
-    private final SlotPanel slotPanel;
+    private final SlotSelectionModel selectionModel;
     private final IconUtil iconUtil;
 
     private JButton batchUnparkButton;
     private JButton reportButton;
+    private JButton selectOccupiedButton;
+    private JButton selectByPlateButton;
+    private JButton clearSelectionButton;
 
-    public BatchPanel(ParkingViewController controller, SlotPanel slotPanel, IconUtil iconUtil) {
+    public BatchPanel(ParkingViewController controller, SlotSelectionModel selectionModel, IconUtil iconUtil) {
         if (controller == null) {
             throw new IllegalArgumentException("Parking view controller cannot be null");
         }
 
-        if (slotPanel == null) {
-            throw new IllegalArgumentException("Slot panel cannot be null");
+        if (selectionModel == null) {
+            throw new IllegalArgumentException("Slot selection model cannot be null");
         }
 
         if (iconUtil == null) {
@@ -42,7 +47,7 @@ public final class BatchPanel extends JPanel {
         }
 
         this.controller = controller;
-        this.slotPanel = slotPanel;
+        this.selectionModel = selectionModel;
         this.iconUtil = iconUtil;
 
         setBorder(BorderFactory.createTitledBorder(
@@ -53,8 +58,10 @@ public final class BatchPanel extends JPanel {
                 new Font("SansSerif", Font.BOLD, 12)
         ));
 
-        setLayout(new FlowLayout(FlowLayout.CENTER, 10, 10));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
         initializeComponents();
+        selectionModel.addChangeListener(event -> updateSelectionCount());
+        updateSelectionCount();
     }
 
     private void initializeComponents() {
@@ -66,8 +73,56 @@ public final class BatchPanel extends JPanel {
         configureButton(reportButton, "Generate CSV parking report");
         reportButton.addActionListener(event -> controller.generateReport());
 
-        add(batchUnparkButton);
-        add(reportButton);
+        selectOccupiedButton = new JButton("Select Occupied");
+        configureButton(selectOccupiedButton, "Select every occupied slot");
+        selectOccupiedButton.addActionListener(event -> selectionModel.selectAllOccupied());
+
+        selectByPlateButton = new JButton("Select by Plate");
+        configureButton(selectByPlateButton, "Select occupied slots whose plate starts with a prefix");
+        selectByPlateButton.addActionListener(event -> handleSelectByPlate());
+
+        clearSelectionButton = new JButton("Clear Selection");
+        configureButton(clearSelectionButton, "Clear the batch selection");
+        clearSelectionButton.addActionListener(event -> selectionModel.clear());
+
+        JPanel actionRow = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
+        actionRow.add(batchUnparkButton);
+        actionRow.add(reportButton);
+
+        JPanel selectionRow = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        selectionRow.add(selectOccupiedButton);
+        selectionRow.add(selectByPlateButton);
+        selectionRow.add(clearSelectionButton);
+
+        add(actionRow);
+        add(selectionRow);
+    }
+
+    private void updateSelectionCount() {
+        int selectedCount = selectionModel.getSelectedCount();
+
+        batchUnparkButton.setText(selectedCount == 0 ? "Batch Unpark" : "Batch Unpark (" + selectedCount + ")");
+        clearSelectionButton.setEnabled(selectedCount > 0);
+    }
+
+    private void handleSelectByPlate() {
+        String prefix = JOptionPane.showInputDialog(
+                this,
+                "Select occupied slots whose license plate starts with:",
+                "Select by Plate",
+                JOptionPane.QUESTION_MESSAGE
+        );
+
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return;
+        }
+
+        if (selectionModel.selectByPlatePrefix(prefix) == 0) {
+            controller.showValidationError(
+                    "No unselected parked cars match " + prefix.trim(),
+                    "Check the plate prefix and try again."
+            );
+        }
     }
 
     private void configureButton(JButton button, String tooltip) {
@@ -101,7 +156,7 @@ public final class BatchPanel extends JPanel {
     }
 
     private void handleBatchUnpark() {
-        List<Integer> selectedSlots = slotPanel.getSelectedSlots();
+        BitSet selectedSlots = selectionModel.getSelectedSlots();
 
         if (selectedSlots.isEmpty()) {
             controller.showValidationError("No slots selected", "Select at least one occupied slot and try again.");
@@ -110,7 +165,7 @@ public final class BatchPanel extends JPanel {
 
         int choice = JOptionPane.showConfirmDialog(
                 this,
-                "Unpark " + selectedSlots.size() + " selected car(s)?",
+                "Unpark " + selectedSlots.cardinality() + " selected car(s)?",
                 "Confirm Batch Unpark",
                 JOptionPane.YES_NO_OPTION,
                 JOptionPane.WARNING_MESSAGE
@@ -118,7 +173,7 @@ public final class BatchPanel extends JPanel {
 
         if (choice == JOptionPane.YES_OPTION) {
             controller.batchUnpark(selectedSlots);
-            slotPanel.clearSelection();
+            selectionModel.clear();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package presentation.swing.panels;
+
+import application.dto.ParkingLotViewData;
+import application.events.ParkingEvent;
+import application.events.ParkingEventListener;
+import presentation.swing.components.RollingSeries;
+import presentation.swing.components.SparklineChart;
+
+import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class DashboardPanel extends JPanel implements ParkingEventListener {
+    private static final Color OCCUPANCY_COLOR = new Color(70, 130, 180);
+    private static final Color ARRIVALS_COLOR = new Color(46, 139, 87);
+    private static final Color DEPARTURES_COLOR = new Color(205, 92, 92);
+    private static final Font TITLE_FONT = new Font("SansSerif", Font.PLAIN, 14);
+    private static final Font VALUE_FONT = new Font("SansSerif", Font.BOLD, 22);
+    private static final int TICK_INTERVAL_MILLISECONDS = 1000;
+    private static final int MINUTE_SECONDS = 60;
+    private static final int ROW_SPACING = 8;
+    private static final String NO_VALUE = "-";
+
+    private final int historySeconds;
+    private final RollingSeries occupancySeries;
+    private final RollingSeries arrivalSeries;
+    private final RollingSeries departureSeries;
+    private final RollingSeries dwellSecondsSeries;
+    private final RollingSeries dwellSampleSeries;
+    private final SparklineChart occupancyChart;
+    private final SparklineChart arrivalChart;
+    private final SparklineChart departureChart;
+    private final JLabel occupancyValue;
+    private final JLabel arrivalValue;
+    private final JLabel departureValue;
+    private final JLabel dwellValue;
+    private final Map<Integer, Long> parkedAtMillis;
+    private final AtomicInteger pendingArrivals;
+    private final AtomicInteger pendingDepartures;
+    private final AtomicLong pendingDwellMillis;
+    private final AtomicInteger pendingDwellSamples;
+    private final Timer tickTimer;
+
+    private long occupancyVersion;
+    private int occupiedSlots;
+    private int parkingLotSize;
+    private int arrivalsLastMinute;
+    private int departuresLastMinute;
+    private long dwellSecondsTotal;
+    private long dwellSamplesTotal;
+
+    public DashboardPanel(int historySeconds) {
+        if (historySeconds < MINUTE_SECONDS) {
+            throw new IllegalArgumentException("Dashboard history must cover at least one minute");
+        }
+
+        this.historySeconds = historySeconds;
+        this.occupancySeries = new RollingSeries(historySeconds);
+        this.arrivalSeries = new RollingSeries(historySeconds);
+        this.departureSeries = new RollingSeries(historySeconds);
+        this.dwellSecondsSeries = new RollingSeries(historySeconds);
+        this.dwellSampleSeries = new RollingSeries(historySeconds);
+        this.occupancyChart = new SparklineChart(occupancySeries, OCCUPANCY_COLOR, 100);
+        this.arrivalChart = new SparklineChart(arrivalSeries, ARRIVALS_COLOR);
+        this.departureChart = new SparklineChart(departureSeries, DEPARTURES_COLOR);
+        this.occupancyValue = createValueLabel();
+        this.arrivalValue = createValueLabel();
+        this.departureValue = createValueLabel();
+        this.dwellValue = createValueLabel();
+        this.parkedAtMillis = new ConcurrentHashMap<>();
+        this.pendingArrivals = new AtomicInteger();
+        this.pendingDepartures = new AtomicInteger();
+        this.pendingDwellMillis = new AtomicLong();
+        this.pendingDwellSamples = new AtomicInteger();
+        this.occupancyVersion = -1L;
+        this.tickTimer = new Timer(TICK_INTERVAL_MILLISECONDS, event -> tick());
+        this.tickTimer.setCoalesce(true);
+
+        initializeUi();
+        tick();
+    }
+
+    @Override
+    public void onParkingEvent(ParkingEvent event) {
+        if (event == null) {
+            return;
+        }
+
+        if (event.getType() == ParkingEvent.Type.PARKED) {
+            parkedAtMillis.put(event.getSlotNumber(), event.getOccurredAtMillis());
+            pendingArrivals.incrementAndGet();
+        } else {
+            Long parkedAt = parkedAtMillis.remove(event.getSlotNumber());
+            pendingDepartures.incrementAndGet();
+
+            if (parkedAt != null) {
+                pendingDwellMillis.addAndGet(Math.max(0L, event.getOccurredAtMillis() - parkedAt));
+                pendingDwellSamples.incrementAndGet();
+            }
+        }
+
+        recordOccupancy(event.getVersion(), event.getOccupiedSlots(), event.getSize());
+    }
+
+    public void showParkingLot(ParkingLotViewData parkingLot) {
+        if (parkingLot != null) {
+            recordOccupancy(parkingLot.getVersion(), parkingLot.getOccupiedSlots(), parkingLot.getSize());
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        tickTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        tickTimer.stop();
+        super.removeNotify();
+    }
+
+    private synchronized void recordOccupancy(long version, int occupiedSlots, int parkingLotSize) {
+        if (version < occupancyVersion) {
+            return;
+        }
+
+        this.occupancyVersion = version;
+        this.occupiedSlots = occupiedSlots;
+        this.parkingLotSize = parkingLotSize;
+    }
+
+    private void tick() {
+        int arrivals = pendingArrivals.getAndSet(0);
+        int departures = pendingDepartures.getAndSet(0);
+        int dwellSeconds = (int) Math.min(Integer.MAX_VALUE, pendingDwellMillis.getAndSet(0L) / 1000L);
+        int dwellSamples = pendingDwellSamples.getAndSet(0);
+        int occupied;
+        int size;
+
+        synchronized (this) {
+            occupied = occupiedSlots;
+            size = parkingLotSize;
+        }
+
+        arrivalsLastMinute += arrivals - arrivalSeries.getSecondsAgo(MINUTE_SECONDS - 1);
+        departuresLastMinute += departures - departureSeries.getSecondsAgo(MINUTE_SECONDS - 1);
+        arrivalSeries.push(arrivals);
+        departureSeries.push(departures);
+        occupancySeries.push(size == 0 ? 0 : Math.round(occupied * 100f / size));
+        dwellSecondsTotal += dwellSeconds - dwellSecondsSeries.push(dwellSeconds);
+        dwellSamplesTotal += dwellSamples - dwellSampleSeries.push(dwellSamples);
+
+        updateLabel(occupancyValue, size == 0 ? NO_VALUE : occupied + " / " + size + " (" + occupancySeries.getSecondsAgo(0) + "%)");
+        updateLabel(arrivalValue, arrivalsLastMinute + " / min");
+        updateLabel(departureValue, departuresLastMinute + " / min");
+        updateLabel(dwellValue, dwellSamplesTotal == 0 ? NO_VALUE : formatDuration(dwellSecondsTotal / dwellSamplesTotal));
+
+        occupancyChart.refresh();
+        arrivalChart.refresh();
+        departureChart.refresh();
+    }
+
+    private void initializeUi() {
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 12));
+        setBackground(Color.WHITE);
+
+        int historyMinutes = historySeconds / MINUTE_SECONDS;
+
+        add(createRow("Occupancy", occupancyValue, occupancyChart));
+        add(createRow("Arrivals", arrivalValue, arrivalChart));
+        add(createRow("Departures", departureValue, departureChart));
+        add(createRow("Average dwell (last " + historyMinutes + " min)", dwellValue, null));
+    }
+
+    private JPanel createRow(String title, JLabel valueLabel, SparklineChart chart) {
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(TITLE_FONT);
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.setOpaque(false);
+        header.add(titleLabel, BorderLayout.WEST);
+        header.add(valueLabel, BorderLayout.EAST);
+
+        JPanel row = new JPanel(new BorderLayout(0, 4));
+        row.setOpaque(false);
+        row.setBorder(BorderFactory.createEmptyBorder(ROW_SPACING, 0, ROW_SPACING, 0));
+        row.add(header, BorderLayout.NORTH);
+
+        if (chart != null) {
+            row.add(chart, BorderLayout.CENTER);
+        }
+
+        return row;
+    }
+
+    private static JLabel createValueLabel() {
+        JLabel label = new JLabel(NO_VALUE);
+        label.setFont(VALUE_FONT);
+        return label;
+    }
+
+    private static void updateLabel(JLabel label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
+    }
+
+    private static String formatDuration(long totalSeconds) {
+        long hours = totalSeconds / 3600;
+        long minutes = (totalSeconds % 3600) / 60;
+        long seconds = totalSeconds % 60;
+
+        if (hours > 0) {
+            return String.format("%dh %02dm", hours, minutes);
+        }
+
+        return String.format("%dm %02ds", minutes, seconds);
+    }
+}
@@ -23,10 +23,11 @@ public final class SearchPanel extends JPanel {
                 "Search for a Car",
                 "Search",
                 iconUtil.createSearchIcon(16, 16),
-                "Search for a parked car by license plate",
+                "Search for a parked car by full or partial license plate",
                 controller,
                 iconUtil,
-                controller::findCar
+                controller::findCar,
+                true
         );
 
         add(plateInputPanel, BorderLayout.CENTER);
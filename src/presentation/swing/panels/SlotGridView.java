@@ -0,0 +1,19 @@
+package presentation.swing.panels;
+
+import application.dto.ParkingLotDelta;
+import application.dto.ParkingLotViewData;
+
+import javax.swing.JComponent;
+import java.util.List;
+
+public interface SlotGridView {
+    void displayParkingLot(ParkingLotViewData parkingLotViewData);
+
+    boolean applyDelta(ParkingLotDelta delta);
+
+    void highlightSlot(int slotNumber);
+
+    void highlightSlots(List<Integer> slotNumbers);
+
+    JComponent asComponent();
+}
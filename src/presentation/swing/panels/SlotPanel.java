@@ -1,29 +1,43 @@
 package presentation.swing.panels;
 
+import application.dto.ParkingLotDelta;
 import application.dto.ParkingLotViewData;
 import application.dto.SlotViewData;
 import presentation.swing.ParkingViewController;
+import presentation.swing.components.HighlightAnimator;
 import presentation.swing.components.ParkingSlotPanel;
+import presentation.swing.components.SlotSelectionModel;
 import presentation.swing.resources.IconUtil;
 
+import javax.swing.JComponent;
 import javax.swing.JPanel;
-import javax.swing.Timer;
 import java.awt.GridLayout;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-public final class SlotPanel extends JPanel {
+public final class SlotPanel extends JPanel implements SlotGridView, HighlightAnimator.Target {
     private static final int GRID_COLUMNS = 5;
     private static final int HIGHLIGHT_DELAY_MILLISECONDS = 2000;
+    private static final long NO_DISPLAYED_VERSION = -1L;
 
     private final ParkingViewController controller;
     private final IconUtil iconUtil;
+    private final HighlightAnimator highlightAnimator;
+    private final SlotSelectionModel selectionModel;
     private final int parkingLotSize;
     private final Map<Integer, ParkingSlotPanel> slotPanels;
 
-    public SlotPanel(ParkingViewController controller, IconUtil iconUtil, int parkingLotSize) {
+    private long displayedVersion;
+
+    public SlotPanel(
+            ParkingViewController controller,
+            IconUtil iconUtil,
+            HighlightAnimator highlightAnimator,
+            SlotSelectionModel selectionModel,
+            int parkingLotSize
+    ) {
         if (controller == null) {
             throw new IllegalArgumentException("Parking view controller cannot be null");
         }
@@ -32,80 +46,158 @@ public final class SlotPanel extends JPanel {
             throw new IllegalArgumentException("Icon utility cannot be null");
         }
 
+        if (highlightAnimator == null) {
+            throw new IllegalArgumentException("Highlight animator cannot be null");
+        }
+
+        if (selectionModel == null) {
+            throw new IllegalArgumentException("Slot selection model cannot be null");
+        }
+
         if (parkingLotSize <= 0) {
             throw new IllegalArgumentException("Parking lot size must be greater than zero");
         }
 
         this.controller = controller;
         this.iconUtil = iconUtil;
+        this.highlightAnimator = highlightAnimator;
+        this.selectionModel = selectionModel;
         this.parkingLotSize = parkingLotSize;
         this.slotPanels = new LinkedHashMap<>();
+        this.displayedVersion = NO_DISPLAYED_VERSION;
 
         initializeLayout(parkingLotSize);
         initializeEmptySlots();
+        selectionModel.addChangeListener(event -> refreshSelection());
     }
 
+    @Override
     public void displayParkingLot(ParkingLotViewData parkingLotViewData) {
         if (parkingLotViewData == null) {
             initializeEmptySlots();
             return;
         }
 
-        removeAll();
-        slotPanels.clear();
-        initializeLayout(parkingLotViewData.getSize());
+        List<SlotViewData> slots = parkingLotViewData.getSlots();
 
-        for (SlotViewData slotViewData : parkingLotViewData.getSlots()) {
-            ParkingSlotPanel panel = new ParkingSlotPanel(controller, iconUtil, slotViewData);
-            slotPanels.put(slotViewData.getSlotNumber(), panel);
-            add(panel);
+        if (!updateChangedSlots(slots)) {
+            rebuildSlots(parkingLotViewData.getSize(), slots);
         }
 
-        revalidate();
-        repaint();
+        displayedVersion = parkingLotViewData.getVersion();
     }
 
+    @Override
+    public boolean applyDelta(ParkingLotDelta delta) {
+        if (delta == null) {
+            return true;
+        }
+
+        if (delta.getVersion() <= displayedVersion) {
+            return true;
+        }
+
+        if (delta.getBaseVersion() != displayedVersion || delta.getSize() != slotPanels.size()) {
+            return false;
+        }
+
+        for (SlotViewData slotViewData : delta.getChangedSlots()) {
+            ParkingSlotPanel panel = slotPanels.get(slotViewData.getSlotNumber());
+
+            if (panel == null) {
+                return false;
+            }
+
+            selectionModel.updateSlot(slotViewData);
+            panel.updateSlot(slotViewData);
+        }
+
+        displayedVersion = delta.getVersion();
+        return true;
+    }
+
+    @Override
     public void highlightSlot(int slotNumber) {
-        ParkingSlotPanel panel = slotPanels.get(slotNumber);
+        if (slotPanels.containsKey(slotNumber)) {
+            highlightAnimator.highlight(this, slotNumber, HIGHLIGHT_DELAY_MILLISECONDS, HighlightAnimator.Style.FADE);
+        }
+    }
 
-        if (panel == null) {
+    @Override
+    public void highlightSlots(List<Integer> slotNumbers) {
+        if (slotNumbers == null) {
             return;
         }
 
-        panel.setHighlighted(true);
+        for (Integer slotNumber : slotNumbers) {
+            if (slotNumber != null && slotPanels.containsKey(slotNumber)) {
+                highlightAnimator.highlight(this, slotNumber, HIGHLIGHT_DELAY_MILLISECONDS, HighlightAnimator.Style.PULSE);
+            }
+        }
+    }
+
+    @Override
+    public void setHighlightIntensity(int slotNumber, float intensity) {
+        ParkingSlotPanel panel = slotPanels.get(slotNumber);
 
-        Timer timer = new Timer(HIGHLIGHT_DELAY_MILLISECONDS, event -> panel.setHighlighted(false));
-        timer.setRepeats(false);
-        timer.start();
+        if (panel != null) {
+            panel.setHighlightIntensity(intensity);
+        }
     }
 
-    public List<Integer> getSelectedSlots() {
-        List<Integer> selectedSlots = new ArrayList<>();
+    @Override
+    public JComponent asComponent() {
+        return this;
+    }
 
-        for (ParkingSlotPanel panel : slotPanels.values()) {
-            if (panel.isSelectedForBatch()) {
-                selectedSlots.add(panel.getSlotNumber());
-            }
+    private void initializeEmptySlots() {
+        List<SlotViewData> slots = new ArrayList<>(parkingLotSize);
+
+        for (int slotNumber = 1; slotNumber <= parkingLotSize; slotNumber++) {
+            slots.add(new SlotViewData(slotNumber, null, ""));
+        }
+
+        if (!updateChangedSlots(slots)) {
+            rebuildSlots(parkingLotSize, slots);
         }
 
-        return selectedSlots;
+        displayedVersion = NO_DISPLAYED_VERSION;
     }
 
-    public void clearSelection() {
-        for (ParkingSlotPanel panel : slotPanels.values()) {
-            panel.clearSelection();
+    private boolean updateChangedSlots(List<SlotViewData> slots) {
+        if (slots.size() != slotPanels.size()) {
+            return false;
         }
+
+        for (SlotViewData slotViewData : slots) {
+            if (!slotPanels.containsKey(slotViewData.getSlotNumber())) {
+                return false;
+            }
+        }
+
+        for (SlotViewData slotViewData : slots) {
+            ParkingSlotPanel panel = slotPanels.get(slotViewData.getSlotNumber());
+
+            if (!panel.displays(slotViewData)) {
+                selectionModel.updateSlot(slotViewData);
+                panel.updateSlot(slotViewData);
+            }
+        }
+
+        return true;
     }
 
-    private void initializeEmptySlots() {
+    private void rebuildSlots(int size, List<SlotViewData> slots) {
+        highlightAnimator.cancelAll(this);
         removeAll();
         slotPanels.clear();
+        selectionModel.resize(size);
+        initializeLayout(size);
 
-        for (int slotNumber = 1; slotNumber <= parkingLotSize; slotNumber++) {
-            SlotViewData slotViewData = new SlotViewData(slotNumber, null, "");
-            ParkingSlotPanel panel = new ParkingSlotPanel(controller, iconUtil, slotViewData);
-
-            slotPanels.put(slotNumber, panel);
+        for (SlotViewData slotViewData : slots) {
+            selectionModel.updateSlot(slotViewData);
+            ParkingSlotPanel panel = new ParkingSlotPanel(controller, iconUtil, selectionModel, slotViewData);
+            slotPanels.put(slotViewData.getSlotNumber(), panel);
             add(panel);
         }
 
@@ -113,6 +205,12 @@ public final class SlotPanel extends JPanel {
         repaint();
     }
 
+    private void refreshSelection() {
+        for (ParkingSlotPanel panel : slotPanels.values()) {
+            panel.refreshSelection();
+        }
+    }
+
     private void initializeLayout(int size) {
         int rows = (int) Math.ceil(size / (double) GRID_COLUMNS);
         setLayout(new GridLayout(rows, GRID_COLUMNS, 10, 10));
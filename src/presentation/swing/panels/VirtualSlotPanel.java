@@ -0,0 +1,500 @@
+package presentation.swing.panels;
+
+import application.dto.ParkingLotDelta;
+import application.dto.ParkingLotViewData;
+import application.dto.SlotViewData;
+import presentation.swing.ParkingViewController;
+import presentation.swing.components.HighlightAnimator;
+import presentation.swing.components.SlotSelectionModel;
+
+import javax.swing.JComponent;
+import javax.swing.JOptionPane;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.ToolTipManager;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class VirtualSlotPanel extends JComponent implements SlotGridView, Scrollable, HighlightAnimator.Target {
+    private static final Color EMPTY_COLOR = new Color(144, 238, 144);
+    private static final Color OCCUPIED_COLOR = new Color(255, 182, 193);
+    private static final Color HIGHLIGHT_COLOR = new Color(100, 149, 237);
+    private static final Color CELL_BORDER_COLOR = new Color(120, 120, 120);
+    private static final Color BUTTON_COLOR = new Color(245, 245, 245);
+    private static final Font SLOT_FONT = new Font("SansSerif", Font.BOLD, 12);
+    private static final Font BUTTON_FONT = new Font("SansSerif", Font.PLAIN, 11);
+
+    private static final int CELL_WIDTH = 120;
+    private static final int CELL_HEIGHT = 64;
+    private static final int CELL_GAP = 6;
+    private static final int CHECKBOX_SIZE = 12;
+    private static final int BUTTON_WIDTH = 56;
+    private static final int BUTTON_HEIGHT = 18;
+    private static final int PADDING = 6;
+    private static final int HIGHLIGHT_DELAY_MILLISECONDS = 2000;
+    private static final int NO_SLOT = -1;
+    private static final long NO_DISPLAYED_VERSION = -1L;
+
+    private final ParkingViewController controller;
+    private final HighlightAnimator highlightAnimator;
+    private final SlotSelectionModel selectionModel;
+    private final Map<Integer, Float> highlightIntensities;
+
+    private SlotViewData[] slots;
+    private long displayedVersion;
+
+    public VirtualSlotPanel(
+            ParkingViewController controller,
+            HighlightAnimator highlightAnimator,
+            SlotSelectionModel selectionModel,
+            int parkingLotSize
+    ) {
+        if (controller == null) {
+            throw new IllegalArgumentException("Parking view controller cannot be null");
+        }
+
+        if (highlightAnimator == null) {
+            throw new IllegalArgumentException("Highlight animator cannot be null");
+        }
+
+        if (selectionModel == null) {
+            throw new IllegalArgumentException("Slot selection model cannot be null");
+        }
+
+        if (parkingLotSize <= 0) {
+            throw new IllegalArgumentException("Parking lot size must be greater than zero");
+        }
+
+        this.controller = controller;
+        this.highlightAnimator = highlightAnimator;
+        this.selectionModel = selectionModel;
+        this.highlightIntensities = new HashMap<>();
+
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        initializeEmptySlots(parkingLotSize);
+        initializeMouseHandling();
+        ToolTipManager.sharedInstance().registerComponent(this);
+        selectionModel.addChangeListener(event -> repaint());
+    }
+
+    @Override
+    public void displayParkingLot(ParkingLotViewData parkingLotViewData) {
+        if (parkingLotViewData == null) {
+            initializeEmptySlots(slots.length);
+            return;
+        }
+
+        SlotViewData[] nextSlots = new SlotViewData[parkingLotViewData.getSize()];
+
+        for (SlotViewData slotViewData : parkingLotViewData.getSlots()) {
+            int index = slotViewData.getSlotNumber() - 1;
+
+            if (index >= 0 && index < nextSlots.length) {
+                nextSlots[index] = slotViewData;
+            }
+        }
+
+        fillEmptySlots(nextSlots);
+        setSlots(nextSlots);
+        displayedVersion = parkingLotViewData.getVersion();
+    }
+
+    @Override
+    public boolean applyDelta(ParkingLotDelta delta) {
+        if (delta == null) {
+            return true;
+        }
+
+        if (delta.getVersion() <= displayedVersion) {
+            return true;
+        }
+
+        if (delta.getBaseVersion() != displayedVersion || delta.getSize() != slots.length) {
+            return false;
+        }
+
+        for (SlotViewData slotViewData : delta.getChangedSlots()) {
+            int slotNumber = slotViewData.getSlotNumber();
+
+            if (slotNumber < 1 || slotNumber > slots.length) {
+                return false;
+            }
+
+            slots[slotNumber - 1] = slotViewData;
+            selectionModel.updateSlot(slotViewData);
+            repaintSlot(slotNumber);
+        }
+
+        displayedVersion = delta.getVersion();
+        return true;
+    }
+
+    @Override
+    public void highlightSlot(int slotNumber) {
+        if (slotNumber < 1 || slotNumber > slots.length) {
+            return;
+        }
+
+        highlightAnimator.highlight(this, slotNumber, HIGHLIGHT_DELAY_MILLISECONDS, HighlightAnimator.Style.FADE);
+        scrollRectToVisible(getCellBounds(slotNumber));
+    }
+
+    @Override
+    public void highlightSlots(List<Integer> slotNumbers) {
+        if (slotNumbers == null) {
+            return;
+        }
+
+        int firstSlot = NO_SLOT;
+
+        for (Integer slotNumber : slotNumbers) {
+            if (slotNumber == null || slotNumber < 1 || slotNumber > slots.length) {
+                continue;
+            }
+
+            highlightAnimator.highlight(this, slotNumber, HIGHLIGHT_DELAY_MILLISECONDS, HighlightAnimator.Style.PULSE);
+
+            if (firstSlot == NO_SLOT) {
+                firstSlot = slotNumber;
+            }
+        }
+
+        if (firstSlot != NO_SLOT) {
+            scrollRectToVisible(getCellBounds(firstSlot));
+        }
+    }
+
+    @Override
+    public void setHighlightIntensity(int slotNumber, float intensity) {
+        if (slotNumber < 1 || slotNumber > slots.length) {
+            return;
+        }
+
+        if (intensity <= 0f) {
+            highlightIntensities.remove(slotNumber);
+        } else {
+            highlightIntensities.put(slotNumber, intensity);
+        }
+
+        repaintSlot(slotNumber);
+    }
+
+    @Override
+    public JComponent asComponent() {
+        return this;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int columns = getColumnCount();
+        int rows = (slots.length + columns - 1) / columns;
+
+        return new Dimension(
+                columns * (CELL_WIDTH + CELL_GAP) + CELL_GAP,
+                rows * (CELL_HEIGHT + CELL_GAP) + CELL_GAP
+        );
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? (CELL_HEIGHT + CELL_GAP) / 2 : CELL_WIDTH / 2;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int visibleExtent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(visibleExtent - (CELL_HEIGHT + CELL_GAP), CELL_HEIGHT + CELL_GAP);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        int slotNumber = slotAt(event.getX(), event.getY());
+
+        if (slotNumber == NO_SLOT) {
+            return null;
+        }
+
+        SlotViewData slotViewData = slots[slotNumber - 1];
+
+        return slotViewData.isOccupied()
+                ? "Slot " + slotNumber + ": " + slotViewData.getLicensePlate()
+                : "Slot " + slotNumber + ": empty";
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g2 = (Graphics2D) graphics.create();
+
+        try {
+            Rectangle clip = g2.getClipBounds();
+
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+
+            g2.setColor(getBackground());
+            g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            int columns = getColumnCount();
+            int rowHeight = CELL_HEIGHT + CELL_GAP;
+            int columnWidth = CELL_WIDTH + CELL_GAP;
+            int firstRow = Math.max(0, (clip.y - CELL_GAP) / rowHeight);
+            int lastRow = Math.min((slots.length - 1) / columns, (clip.y + clip.height) / rowHeight);
+            int firstColumn = Math.max(0, (clip.x - CELL_GAP) / columnWidth);
+            int lastColumn = Math.min(columns - 1, (clip.x + clip.width) / columnWidth);
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int index = row * columns + column;
+
+                    if (index < slots.length) {
+                        paintCell(g2, slots[index], column * columnWidth + CELL_GAP, row * rowHeight + CELL_GAP);
+                    }
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintCell(Graphics2D g2, SlotViewData slotViewData, int x, int y) {
+        int slotNumber = slotViewData.getSlotNumber();
+        boolean occupied = slotViewData.isOccupied();
+
+        Float highlightIntensity = highlightIntensities.get(slotNumber);
+        Color baseColor = occupied ? OCCUPIED_COLOR : EMPTY_COLOR;
+
+        g2.setColor(highlightIntensity == null
+                ? baseColor
+                : HighlightAnimator.blend(baseColor, HIGHLIGHT_COLOR, highlightIntensity));
+
+        g2.fillRect(x, y, CELL_WIDTH, CELL_HEIGHT);
+        g2.setColor(CELL_BORDER_COLOR);
+        g2.drawRect(x, y, CELL_WIDTH - 1, CELL_HEIGHT - 1);
+
+        g2.setFont(SLOT_FONT);
+        g2.setColor(Color.BLACK);
+        FontMetrics metrics = g2.getFontMetrics();
+        String title = "Slot " + slotNumber;
+        String detail = occupied ? slotViewData.getLicensePlate() : "EMPTY";
+        int textTop = y + PADDING + metrics.getAscent();
+
+        drawCentered(g2, metrics, title, x, textTop);
+        drawCentered(g2, metrics, detail, x, textTop + metrics.getHeight());
+
+        if (!occupied) {
+            return;
+        }
+
+        Rectangle checkbox = getCheckboxBounds(x, y);
+        g2.setColor(Color.WHITE);
+        g2.fillRect(checkbox.x, checkbox.y, checkbox.width, checkbox.height);
+        g2.setColor(CELL_BORDER_COLOR);
+        g2.drawRect(checkbox.x, checkbox.y, checkbox.width - 1, checkbox.height - 1);
+
+        if (selectionModel.isSelected(slotNumber)) {
+            g2.setColor(Color.BLACK);
+            g2.drawLine(checkbox.x + 2, checkbox.y + 6, checkbox.x + 5, checkbox.y + 9);
+            g2.drawLine(checkbox.x + 5, checkbox.y + 9, checkbox.x + 10, checkbox.y + 2);
+        }
+
+        Rectangle button = getButtonBounds(x, y);
+        g2.setColor(BUTTON_COLOR);
+        g2.fillRect(button.x, button.y, button.width, button.height);
+        g2.setColor(CELL_BORDER_COLOR);
+        g2.drawRect(button.x, button.y, button.width - 1, button.height - 1);
+        g2.setFont(BUTTON_FONT);
+        g2.setColor(Color.BLACK);
+        FontMetrics buttonMetrics = g2.getFontMetrics();
+        g2.drawString(
+                "Unpark",
+                button.x + (button.width - buttonMetrics.stringWidth("Unpark")) / 2,
+                button.y + (button.height + buttonMetrics.getAscent() - buttonMetrics.getDescent()) / 2
+        );
+    }
+
+    private void drawCentered(Graphics2D g2, FontMetrics metrics, String text, int cellX, int baseline) {
+        String visibleText = text;
+
+        while (visibleText.length() > 1 && metrics.stringWidth(visibleText) > CELL_WIDTH - 2 * PADDING) {
+            visibleText = visibleText.substring(0, visibleText.length() - 1);
+        }
+
+        g2.drawString(visibleText, cellX + (CELL_WIDTH - metrics.stringWidth(visibleText)) / 2, baseline);
+    }
+
+    private void initializeMouseHandling() {
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent event) {
+                handleClick(event.getX(), event.getY(), event.isShiftDown());
+            }
+        });
+    }
+
+    private void handleClick(int x, int y, boolean extendSelection) {
+        int slotNumber = slotAt(x, y);
+
+        if (slotNumber == NO_SLOT || !slots[slotNumber - 1].isOccupied()) {
+            return;
+        }
+
+        Rectangle cell = getCellBounds(slotNumber);
+
+        if (getButtonBounds(cell.x, cell.y).contains(x, y)) {
+            confirmAndUnpark(slots[slotNumber - 1]);
+            return;
+        }
+
+        if (extendSelection) {
+            selectionModel.extendSelectionTo(slotNumber);
+        } else {
+            selectionModel.toggle(slotNumber);
+        }
+    }
+
+    private void confirmAndUnpark(SlotViewData slotViewData) {
+        int choice = JOptionPane.showConfirmDialog(
+                this,
+                "Unpark car " + slotViewData.getLicensePlate() + " from slot " + slotViewData.getSlotNumber() + "?",
+                "Confirm Unpark",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.WARNING_MESSAGE
+        );
+
+        if (choice == JOptionPane.YES_OPTION) {
+            controller.unparkCar(slotViewData.getSlotNumber());
+        }
+    }
+
+    private int slotAt(int x, int y) {
+        int columnWidth = CELL_WIDTH + CELL_GAP;
+        int rowHeight = CELL_HEIGHT + CELL_GAP;
+        int column = (x - CELL_GAP) / columnWidth;
+        int row = (y - CELL_GAP) / rowHeight;
+
+        if (x < CELL_GAP || y < CELL_GAP || column >= getColumnCount()) {
+            return NO_SLOT;
+        }
+
+        if ((x - CELL_GAP) % columnWidth >= CELL_WIDTH || (y - CELL_GAP) % rowHeight >= CELL_HEIGHT) {
+            return NO_SLOT;
+        }
+
+        int index = row * getColumnCount() + column;
+
+        return index < slots.length ? index + 1 : NO_SLOT;
+    }
+
+    private Rectangle getCellBounds(int slotNumber) {
+        int columns = getColumnCount();
+        int index = slotNumber - 1;
+
+        return new Rectangle(
+                (index % columns) * (CELL_WIDTH + CELL_GAP) + CELL_GAP,
+                (index / columns) * (CELL_HEIGHT + CELL_GAP) + CELL_GAP,
+                CELL_WIDTH,
+                CELL_HEIGHT
+        );
+    }
+
+    private Rectangle getCheckboxBounds(int cellX, int cellY) {
+        return new Rectangle(cellX + PADDING, cellY + CELL_HEIGHT - PADDING - BUTTON_HEIGHT + 3, CHECKBOX_SIZE, CHECKBOX_SIZE);
+    }
+
+    private Rectangle getButtonBounds(int cellX, int cellY) {
+        return new Rectangle(
+                cellX + CELL_WIDTH - PADDING - BUTTON_WIDTH,
+                cellY + CELL_HEIGHT - PADDING - BUTTON_HEIGHT,
+                BUTTON_WIDTH,
+                BUTTON_HEIGHT
+        );
+    }
+
+    private int getColumnCount() {
+        int width = getWidth();
+
+        if (getParent() instanceof JViewport) {
+            width = getParent().getWidth();
+        }
+
+        return Math.max(1, (width - CELL_GAP) / (CELL_WIDTH + CELL_GAP));
+    }
+
+    private void repaintSlot(int slotNumber) {
+        repaint(getCellBounds(slotNumber));
+    }
+
+    private void initializeEmptySlots(int size) {
+        SlotViewData[] emptySlots = new SlotViewData[size];
+        fillEmptySlots(emptySlots);
+        setSlots(emptySlots);
+        displayedVersion = NO_DISPLAYED_VERSION;
+    }
+
+    private void fillEmptySlots(SlotViewData[] targetSlots) {
+        for (int index = 0; index < targetSlots.length; index++) {
+            if (targetSlots[index] == null) {
+                targetSlots[index] = new SlotViewData(index + 1, null, "");
+            }
+        }
+    }
+
+    private void setSlots(SlotViewData[] nextSlots) {
+        boolean sizeChanged = slots == null || slots.length != nextSlots.length;
+        SlotViewData[] previousSlots = slots;
+        slots = nextSlots;
+
+        if (sizeChanged) {
+            selectionModel.resize(nextSlots.length);
+        }
+
+        for (int index = 0; index < nextSlots.length; index++) {
+            if (sizeChanged || !sameSlot(previousSlots[index], nextSlots[index])) {
+                selectionModel.updateSlot(nextSlots[index]);
+            }
+        }
+
+        if (sizeChanged) {
+            highlightAnimator.cancelAll(this);
+            highlightIntensities.clear();
+            revalidate();
+        }
+
+        repaint();
+    }
+
+    private static boolean sameSlot(SlotViewData current, SlotViewData next) {
+        return current.getStatus() == next.getStatus()
+                && current.getLicensePlate().equals(next.getLicensePlate());
+    }
+}
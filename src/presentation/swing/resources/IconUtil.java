@@ -2,10 +2,18 @@ package presentation.swing.resources;
 
 import infrastructure.logging.AppLogger;
 
+import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
-import java.awt.Image;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class IconUtil {
     private static final String CAR_ICON = "/resources/icons/car.png";
@@ -20,6 +28,10 @@ public final class IconUtil {
     private static final int DEFAULT_ICON_SIZE = 16;
 
     private final AppLogger logger;
+    private final Map<String, Optional<BufferedImage>> sourceImages;
+    private final Map<IconKey, Optional<ImageIcon>> scaledIcons;
+    private final AtomicLong cacheHits;
+    private final AtomicLong cacheMisses;
 
     public IconUtil(AppLogger logger) {
         if (logger == null) {
@@ -27,6 +39,10 @@ public final class IconUtil {
         }
 
         this.logger = logger;
+        this.sourceImages = new ConcurrentHashMap<>();
+        this.scaledIcons = new ConcurrentHashMap<>();
+        this.cacheHits = new AtomicLong();
+        this.cacheMisses = new AtomicLong();
     }
 
     public ImageIcon createCarIcon(int width, int height) {
@@ -61,6 +77,14 @@ public final class IconUtil {
         return loadIcon(HELP_ICON, width, height);
     }
 
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
     private ImageIcon loadIcon(String path, int width, int height) {
         String safePath = normalize(path);
 
@@ -69,31 +93,75 @@ public final class IconUtil {
             return null;
         }
 
-        int safeWidth = normalizeSize(width);
-        int safeHeight = normalizeSize(height);
+        IconKey key = new IconKey(safePath, normalizeSize(width), normalizeSize(height));
+        Optional<ImageIcon> cachedIcon = scaledIcons.get(key);
 
-        try (InputStream stream = IconUtil.class.getResourceAsStream(safePath)) {
+        if (cachedIcon != null) {
+            cacheHits.incrementAndGet();
+            return cachedIcon.orElse(null);
+        }
+
+        cacheMisses.incrementAndGet();
+        return scaledIcons.computeIfAbsent(key, this::createScaledIcon).orElse(null);
+    }
+
+    private Optional<ImageIcon> createScaledIcon(IconKey key) {
+        return sourceImages.computeIfAbsent(key.path, this::readImage)
+                .map(image -> new ImageIcon(scale(image, key.width, key.height)));
+    }
+
+    private Optional<BufferedImage> readImage(String path) {
+        try (InputStream stream = IconUtil.class.getResourceAsStream(path)) {
             if (stream == null) {
-                logger.warn("Icon resource not found: " + safePath);
-                return null;
+                logger.warn("Icon resource not found: " + path);
+                return Optional.empty();
             }
 
-            ImageIcon icon = new ImageIcon(stream.readAllBytes());
+            BufferedImage image = ImageIO.read(stream);
 
-            if (icon.getIconWidth() <= 0 || icon.getIconHeight() <= 0) {
-                logger.warn("Invalid icon resource: " + safePath);
-                return null;
+            if (image == null || image.getWidth() <= 0 || image.getHeight() <= 0) {
+                logger.warn("Invalid icon resource: " + path);
+                return Optional.empty();
             }
 
-            Image scaledImage = icon.getImage().getScaledInstance(safeWidth, safeHeight, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImage);
+            return Optional.of(image);
         } catch (IOException exception) {
-            logger.error("Failed to load icon " + safePath, exception);
-            return null;
+            logger.error("Failed to load icon " + path, exception);
+            return Optional.empty();
         } catch (Exception exception) {
-            logger.error("Unexpected error while loading icon " + safePath, exception);
-            return null;
+            logger.error("Unexpected error while loading icon " + path, exception);
+            return Optional.empty();
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        while (currentWidth / 2 >= width && currentHeight / 2 >= height) {
+            currentWidth /= 2;
+            currentHeight /= 2;
+            current = drawScaled(current, currentWidth, currentHeight);
         }
+
+        return drawScaled(current, width, height);
+    }
+
+    private BufferedImage drawScaled(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
     }
 
     private int normalizeSize(int size) {
@@ -107,4 +175,35 @@ public final class IconUtil {
 
         return value.trim();
     }
-}
\ No newline at end of file
+
+    private static final class IconKey {
+        private final String path;
+        private final int width;
+        private final int height;
+
+        private IconKey(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof IconKey)) {
+                return false;
+            }
+
+            IconKey key = (IconKey) other;
+            return width == key.width && height == key.height && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height);
+        }
+    }
+}